@@ -0,0 +1,38 @@
+package edu.univalle.cincuentazo.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Runs every benchmark of this module with the allocation profiler
+ * ({@code -prof gc}) enabled, so each result reports both throughput and
+ * bytes allocated per operation. Any command-line argument is passed to JMH
+ * as usual, for example a benchmark name filter or {@code -rf csv -rff results.csv}
+ * to keep the numbers for comparison.
+ * </p>
+ *
+ * @since 1.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine).addProfiler(GCProfiler.class);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackageName());
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
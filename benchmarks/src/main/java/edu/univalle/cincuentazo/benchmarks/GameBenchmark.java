@@ -0,0 +1,58 @@
+package edu.univalle.cincuentazo.benchmarks;
+
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.GameEngine;
+import edu.univalle.cincuentazo.model.IPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of whole-game operations: building a game and playing it to the end.
+ *
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmark {
+
+    /** Number of machine players of the game. */
+    @Param({"1", "2", "3"})
+    public int machines;
+
+    private GameEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new GameEngine(new Game(machines, 42L));
+    }
+
+    /**
+     * Measures {@code new Game(n)}: deck setup, shuffle, players and deal.
+     */
+    @Benchmark
+    public Game newGame() {
+        return new Game(machines);
+    }
+
+    /**
+     * Measures a full headless game reusing the same instance.
+     */
+    @Benchmark
+    public IPlayer fullGame() {
+        engine.reset();
+        return engine.playToEnd();
+    }
+
+    /**
+     * Measures a full headless game including its construction.
+     */
+    @Benchmark
+    public IPlayer fullGameWithConstruction() {
+        return new GameEngine(new Game(machines)).playToEnd();
+    }
+}
@@ -0,0 +1,135 @@
+package edu.univalle.cincuentazo.benchmarks;
+
+import edu.univalle.cincuentazo.exceptions.InvalidCardPlayException;
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.GameSnapshot;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.MachinePlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the per-turn hot paths of the model.
+ * <p>
+ * Every benchmark leaves the game in a state where it can be called again,
+ * so no per-invocation setup is needed. The log is turned off, so the turns
+ * of the machine are measured without formatting their log events.
+ * </p>
+ *
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TurnBenchmark {
+
+    private Game game;
+    private IPlayer human;
+    private MachinePlayer machine;
+    private int sum;
+    private GameSnapshot snapshot;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        GameLog.setLevel(edu.univalle.cincuentazo.log.Level.OFF);
+        game = new Game(3, 42L);
+        human = game.getPlayers().get(0);
+        machine = (MachinePlayer) game.getPlayers().get(1);
+        sum = game.getTableSum();
+        snapshot = game.snapshot();
+    }
+
+    /**
+     * Measures {@link Game#playCard(IPlayer, Card)} followed by
+     * {@link Game#restore(GameSnapshot)}, which takes the card back from the
+     * table; subtract the {@link #restore()} score to get the play alone.
+     */
+    @Benchmark
+    public int playCard() throws InvalidCardPlayException {
+        game.playCard(human, human.getHandSet().get(0));
+        int tableSum = game.getTableSum();
+        game.restore(snapshot);
+        return tableSum;
+    }
+
+    /**
+     * Measures {@link Game#drawCard(IPlayer)} when the deck still has cards.
+     * The drawn card is played back so the deck slowly turns over.
+     */
+    @Benchmark
+    public Card drawCard() throws InvalidCardPlayException {
+        Card card = human.getHandSet().get(0);
+        game.setTableSum(0);
+        game.playCard(human, card);
+        game.drawCard(human);
+        return game.getCurrentTableCard();
+    }
+
+    /**
+     * Measures draws that always go through the table-recycle branch: the
+     * hand is emptied and refilled from an exhausted deck, forcing a refill
+     * from the table every few calls.
+     */
+    @Benchmark
+    public int drawCardWithRecycle() throws InvalidCardPlayException {
+        while (game.getDeckSize() > 0) {
+            game.setTableSum(0);
+            game.playCard(human, human.getHandSet().get(0));
+            game.drawCard(human);
+        }
+        game.setTableSum(0);
+        game.playCard(human, human.getHandSet().get(0));
+        game.drawCard(human);
+        return game.getRecycleCount();
+    }
+
+    /**
+     * Measures {@link Game#mustBeEliminated(IPlayer)}.
+     */
+    @Benchmark
+    public boolean mustBeEliminated() {
+        return game.mustBeEliminated(human);
+    }
+
+    /**
+     * Measures {@link IPlayer#canPlay(Game)} as implemented by the abstract player.
+     */
+    @Benchmark
+    public boolean canPlay() {
+        return machine.canPlay(game);
+    }
+
+    /**
+     * Measures {@link MachinePlayer#playTurn(Game)}, including its draw.
+     * The table sum is restored so the machine never runs out of plays.
+     */
+    @Benchmark
+    public int machinePlayTurn() {
+        game.setTableSum(sum);
+        machine.playTurn(game);
+        return game.getTableSum();
+    }
+
+    /**
+     * Measures {@link Game#snapshot(GameSnapshot)} into a reused snapshot.
+     */
+    @Benchmark
+    public GameSnapshot snapshot() {
+        return game.snapshot(snapshot);
+    }
+
+    /**
+     * Measures {@link Game#restore(GameSnapshot)}.
+     */
+    @Benchmark
+    public int restore() {
+        game.restore(snapshot);
+        return game.getTableSum();
+    }
+}
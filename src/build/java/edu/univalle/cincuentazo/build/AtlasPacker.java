@@ -0,0 +1,116 @@
+package edu.univalle.cincuentazo.build;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Build-time tool that packs the card images into a single sprite atlas.
+ * <p>
+ * Every PNG of the source directory is scaled to one cell and drawn into a
+ * grid, with a transparent gutter between cells so that smoothing never
+ * samples a neighbouring card. The tool writes {@code atlas.png} and an
+ * {@code atlas.index} file with one line per image:
+ * {@code <file name> <x> <y> <width> <height>}.
+ * </p>
+ *
+ * <p>
+ * It runs as a single-file source program during the
+ * {@code generate-resources} phase of the Maven build and does nothing when
+ * the atlas is newer than every source image.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code java AtlasPacker.java <source dir> <output dir> <cell width> <cell height> <columns>}
+ * </p>
+ *
+ * @since 1.0
+ */
+public final class AtlasPacker {
+
+    /** Transparent pixels between two cells. */
+    private static final int GUTTER = 2;
+
+    private AtlasPacker() {
+    }
+
+    /**
+     * Entry point of the packer.
+     *
+     * @param args source directory, output directory, cell width, cell height and columns
+     * @throws IOException if an image cannot be read or the atlas cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 5) {
+            System.err.println("Uso: AtlasPacker <origen> <destino> <ancho> <alto> <columnas>");
+            System.exit(2);
+        }
+        File source = new File(args[0]);
+        File output = new File(args[1]);
+        int cellWidth = Integer.parseInt(args[2]);
+        int cellHeight = Integer.parseInt(args[3]);
+        int columns = Integer.parseInt(args[4]);
+
+        File[] images = source.listFiles((dir, name) -> name.endsWith(".png"));
+        if (images == null || images.length == 0) {
+            throw new IOException("No hay imágenes en " + source);
+        }
+        Arrays.sort(images);
+
+        File atlasFile = new File(output, "atlas.png");
+        File indexFile = new File(output, "atlas.index");
+        if (isUpToDate(images, atlasFile, indexFile)) {
+            System.out.println("Atlas de cartas al día: " + atlasFile);
+            return;
+        }
+
+        int rows = (images.length + columns - 1) / columns;
+        int strideX = cellWidth + GUTTER;
+        int strideY = cellHeight + GUTTER;
+        BufferedImage atlas = new BufferedImage(columns * strideX - GUTTER, rows * strideY - GUTTER,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = atlas.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+
+        if (!output.isDirectory() && !output.mkdirs()) {
+            throw new IOException("No se pudo crear " + output);
+        }
+        try (PrintWriter index = new PrintWriter(indexFile, StandardCharsets.UTF_8)) {
+            index.println("# nombre x y ancho alto");
+            for (int i = 0; i < images.length; i++) {
+                BufferedImage image = ImageIO.read(images[i]);
+                if (image == null) {
+                    throw new IOException("Imagen inválida: " + images[i]);
+                }
+                int x = (i % columns) * strideX;
+                int y = (i / columns) * strideY;
+                g.drawImage(image, x, y, cellWidth, cellHeight, null);
+                index.println(images[i].getName() + " " + x + " " + y + " " + cellWidth + " " + cellHeight);
+            }
+        } finally {
+            g.dispose();
+        }
+        ImageIO.write(atlas, "png", atlasFile);
+        System.out.println("Atlas de " + images.length + " cartas generado: " + atlasFile
+                + " (" + atlas.getWidth() + "x" + atlas.getHeight() + ")");
+    }
+
+    /**
+     * Checks if the atlas and its index are newer than every source image.
+     */
+    private static boolean isUpToDate(File[] images, File atlas, File index) {
+        if (!atlas.isFile() || !index.isFile()) return false;
+        long built = Math.min(atlas.lastModified(), index.lastModified());
+        for (File image : images) {
+            if (image.lastModified() > built) return false;
+        }
+        return true;
+    }
+}
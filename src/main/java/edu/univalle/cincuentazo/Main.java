@@ -4,6 +4,7 @@ import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import edu.univalle.cincuentazo.view.CardImageCache;
 import edu.univalle.cincuentazo.view.StartStage;
 
 /**
@@ -25,14 +26,16 @@ public class Main extends Application {
     /**
      * Method called when the JavaFX application starts.
      * <p>
-     * Creates an instance of {@link edu.univalle.cincuentazo.view.StartStage}
-     * to display the initial window of the application.
+     * Starts loading the card images in the background and creates an
+     * instance of {@link edu.univalle.cincuentazo.view.StartStage} to display
+     * the initial window of the application.
      * </p>
      *
      * @param primaryStage The primary stage provided by JavaFX.
      */
     @Override
     public void start(Stage primaryStage) {
+        CardImageCache.getInstance();
         new StartStage();
     }
 
@@ -1,24 +1,39 @@
 package edu.univalle.cincuentazo.controller;
 
+import edu.univalle.cincuentazo.log.GameLog;
 import edu.univalle.cincuentazo.exceptions.DeckEmptyException;
 import edu.univalle.cincuentazo.exceptions.InvalidCardPlayException;
 import edu.univalle.cincuentazo.model.*;
+import edu.univalle.cincuentazo.model.strategy.IsmctsStrategy;
+import edu.univalle.cincuentazo.model.strategy.Strategy;
+import edu.univalle.cincuentazo.replay.GameRecordWriter;
+import edu.univalle.cincuentazo.replay.GameRecorder;
+import edu.univalle.cincuentazo.view.CardImageCache;
+import edu.univalle.cincuentazo.view.HandView;
+import edu.univalle.cincuentazo.view.PerformanceOverlay;
+import edu.univalle.cincuentazo.view.RenderMetrics;
 import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Controller class for the main game GUI of Cincuentazo.
@@ -29,6 +44,11 @@ import java.util.*;
  * such as card displays, table sum, and turn messages.
  * </p>
  *
+ * <p>
+ * The turn cycle itself is delegated to a {@link GameEngine}; this class
+ * only renders the state and paces the machine turns.
+ * </p>
+ *
  * <p>Responsibilities include:</p>
  * <ul>
  *     <li>Starting a new game and initializing the view</li>
@@ -58,6 +78,7 @@ public class GameController implements Initializable {
     @FXML private Button aceOneButton;
     @FXML private Button aceTenButton;
     @FXML private Label turnMessageLabel;
+    @FXML private CheckBox turboCheck;
 
 
     /** The Ace card awaiting value selection. */
@@ -66,6 +87,9 @@ public class GameController implements Initializable {
     /** The game model instance. */
     private Game game;
 
+    /** The turn engine driving the game. */
+    private GameEngine engine;
+
     /** Reference to the human player. */
     private IPlayer humanPlayer;
 
@@ -75,6 +99,44 @@ public class GameController implements Initializable {
     /** Indicates whether it is currently the human player's turn. */
     private boolean humanTurn = true;
 
+    /** Shared card images. */
+    private final CardImageCache images = CardImageCache.getInstance();
+
+    /** Strategy shared by the machine players; decisions run one at a time. */
+    private static final Strategy MACHINE_STRATEGY = new IsmctsStrategy(System.nanoTime());
+
+    /** Time budget of each machine decision, in nanoseconds. */
+    private static final long MACHINE_BUDGET_NANOS = 250_000_000L;
+
+    /** Background thread where machines decide their moves. */
+    private static final ExecutorService MACHINE_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "cincuentazo-machines");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Destination of the recorded games, or null if games are not recorded. */
+    private static final GameRecordWriter RECORDING = openRecording();
+
+    /** Default pause before each machine move is shown, in milliseconds. */
+    public static final long DEFAULT_MACHINE_DELAY_MILLIS = 2000;
+
+    /** Pause before each machine move is shown, in milliseconds. */
+    private long machineDelayMillis = machineDelayProperty();
+
+    /** Pooled view of the human hand. */
+    private HandView humanHand;
+
+    /** Pooled views of the machine hands, in seat order. */
+    private HandView[] machineHands;
+
+
+    /** Render timings of this view. */
+    private final RenderMetrics metrics = new RenderMetrics();
+
+    /** Performance overlay of the scene, installed with the first game. */
+    private PerformanceOverlay overlay;
+
 
     /**
      * Initializes the controller.
@@ -87,18 +149,38 @@ public class GameController implements Initializable {
      */
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        deckImage.setImage(new Image(getClass().getResource("/edu/univalle/cincuentazo/cards/card_back.png").toExternalForm()));
+        images.showBack(deckImage);
     }
 
     /**
-     * Starts a new game with the specified number of machine players.
+     * Starts a new game with the given rules.
+     * <p>
+     * The human takes the first seat and machines the others. Machines
+     * search their moves with {@link IsmctsStrategy}. When the system
+     * property {@code cincuentazo.record} names a file, games with the
+     * standard rules are appended to it with a {@link GameRecorder}.
+     * </p>
      *
-     * @param numMachines the number of machine-controlled players
+     * @param rules the rules of the game
      */
-    public void startGame(int numMachines) {
-        game = new Game(numMachines);
+    public void startGame(RuleSet rules) {
+        List<IPlayer> players = new ArrayList<>();
+        players.add(new HumanPlayer("Tú"));
+        for (int i = 1; i < rules.getSeats(); i++) {
+            players.add(new MachinePlayer("Máquina " + i, MACHINE_STRATEGY, MACHINE_BUDGET_NANOS));
+        }
+        long seed = new SplittableRandom().nextLong();
+        game = new Game(players, new SplittableRandom(seed), rules);
+        engine = new GameEngine(game);
         humanPlayer = game.getPlayers().get(0);
-        updateView();
+        aceOneButton.setText(String.valueOf(rules.getAceLow()));
+        aceTenButton.setText(String.valueOf(rules.getAceHigh()));
+        createSeatViews();
+        bindView();
+        if (RECORDING != null && rules.equals(RuleSet.STANDARD.withSeats(rules.getSeats()))) {
+            game.addListener(new GameRecorder(engine, seed, RECORDING));
+        }
+        game.addListener(new ResultListener());
     }
 
 
@@ -118,55 +200,128 @@ public class GameController implements Initializable {
     }
 
     /**
-     * Updates the table view and all hands in the GUI.
+     * Shows the state of the new game and binds the view to it.
+     * <p>
+     * Each node is updated by a listener of the observable value it shows:
+     * the sum label by {@link Game#tableSumProperty()}, the table card by
+     * {@link Game#topCardProperty()}, each hand by
+     * {@link Game#handProperty(int)} and {@link Game#handSizeProperty(int)},
+     * which also changes when a second copy of a card is drawn, and each
+     * machine seat by {@link Game#eliminatedProperty(int)}. A play therefore
+     * only touches the table and the hand of the player, and a draw only that
+     * hand. The game is played on the FX thread, where the listeners are called.
+     * </p>
+     */
+    private void bindView() {
+        showSum(game.tableSumProperty().get());
+        showTopCard(game.topCardProperty().get());
+        game.tableSumProperty().addListener((old, sum) -> showSum(sum));
+        game.topCardProperty().addListener((old, top) -> showTopCard(top));
+
+        for (int seat = 0; seat < game.getPlayers().size(); seat++) {
+            int s = seat;
+            showHand(s);
+            game.handProperty(s).addListener((old, cards) -> showHand(s));
+            game.handSizeProperty(s).addListener((old, size) -> showHand(s));
+            if (s > 0) {
+                HandView view = machineHands[s - 1];
+                view.setSeatVisible(!game.eliminatedProperty(s).get());
+                game.eliminatedProperty(s).addListener((old, out) -> view.setSeatVisible(!out));
+            }
+        }
+    }
+
+    /**
+     * Shows the sum of the table.
+     *
+     * @param sum the table sum
+     */
+    private void showSum(int sum) {
+        sumLabel.setText("Suma: " + sum);
+    }
+
+    /**
+     * Shows the card on top of the table.
+     *
+     * @param top the top card
      */
-    private void updateView() {
-        tableCardImage.setImage(new Image(getClass().getResource(game.getCurrentTableCard().getResourcePath()).toExternalForm()));
-        sumLabel.setText("Suma: " + game.getTableSum());
-        displayHands();
-        displayMachineHands();
+    private void showTopCard(Card top) {
+        long start = System.nanoTime();
+        images.show(tableCardImage, top);
+        metrics.record(RenderMetrics.Timer.UPDATE_VIEW, System.nanoTime() - start);
     }
 
     /**
-     * Displays the human player's hand with clickable cards.
+     * Shows the hand of one seat.
+     *
+     * @param seat the seat index, 0 being the human player
      */
-    private void displayHands() {
-        playerCardsGrid.getChildren().clear();
-        for (int i = 0; i < humanPlayer.getHand().size(); i++) {
-            Card card = humanPlayer.getHand().get(i);
-            ImageView img = new ImageView(new Image(getClass().getResource(card.getResourcePath()).toExternalForm()));
-            img.setFitHeight(120);
-            img.setFitWidth(80);
-            img.setOnMouseClicked(e -> playCard(card));
-            playerCardsGrid.add(img, i, 0);
+    private void showHand(int seat) {
+        long start = System.nanoTime();
+        CardSet cards = game.getPlayers().get(seat).getHandSet();
+        if (seat == 0) {
+            humanHand.update(cards);
+            metrics.record(RenderMetrics.Timer.HUMAN_HAND, System.nanoTime() - start);
+        } else {
+            machineHands[seat - 1].update(cards);
+            metrics.record(RenderMetrics.Timer.MACHINE_HANDS, System.nanoTime() - start);
         }
     }
 
     /**
-     * Displays machine players' hands as card backs.
+     * Logs the eliminations and announces the end of the game.
      */
-    private void displayMachineHands() {
-        machineTopArea.getChildren().clear();
-        machineLeftArea.getChildren().clear();
-        machineRightArea.getChildren().clear();
-
-        List<IPlayer> machines = game.getPlayers().subList(1, game.getPlayers().size());
-
-        for (int i = 0; i < machines.size(); i++) {
-            IPlayer machine = machines.get(i);
-            if (machine.isEliminated()) continue;
-
-            for (Card c : machine.getHand()) {
-                ImageView img = new ImageView(new Image(getClass().getResource("/edu/univalle/cincuentazo/cards/card_back.png").toExternalForm()));
-                img.setFitWidth(80);
-                img.setFitHeight(120);
-
-                switch (i) {
-                    case 0 -> machineTopArea.getChildren().add(img);
-                    case 1 -> machineLeftArea.getChildren().add(img);
-                    case 2 -> machineRightArea.getChildren().add(img);
-                }
+    private final class ResultListener implements GameListener {
+
+        @Override
+        public void onPlayerEliminated(Game g, IPlayer player) {
+            GameLog.info("{} ha sido eliminado.", player.getName());
+        }
+
+        @Override
+        public void onGameOver(Game g, IPlayer winner) {
+            if (winner != null) {
+                GameLog.info("🎉 ¡El juego ha terminado! Ganador: {}", winner.getName());
+            } else {
+                GameLog.info("🎉 ¡El juego ha terminado sin ganador!");
             }
+            flushRecording();
+            endGameMessage(winner);
+        }
+    }
+
+    /**
+     * Creates the pooled views of every seat for the current game.
+     * <p>
+     * The human hand is clickable and face up; machine hands show card backs.
+     * Up to three machines take one area each. Larger tables deal the
+     * machine seats in turn to the top, left and right areas, each seat in
+     * its own row of smaller cards. The seats are created once per game and
+     * then only updated.
+     * </p>
+     */
+    private void createSeatViews() {
+        int handSize = game.getRules().getHandSize();
+        humanHand = new HandView(playerCardsGrid, handSize, true, 80, 120, this::playCard);
+        Pane[] areas = {machineTopArea, machineLeftArea, machineRightArea};
+        machineHands = new HandView[game.getPlayers().size() - 1];
+        if (machineHands.length <= areas.length) {
+            for (int i = 0; i < machineHands.length; i++) {
+                machineHands[i] = new HandView(areas[i], handSize, false, 80, 120, null);
+            }
+        } else {
+            for (Pane area : areas) {
+                area.getChildren().clear();
+            }
+            for (int i = 0; i < machineHands.length; i++) {
+                HBox seat = new HBox(2);
+                areas[i % areas.length].getChildren().add(seat);
+                machineHands[i] = new HandView(seat, handSize, false, 32, 48, null);
+            }
+        }
+        if (overlay == null) {
+            overlay = new PerformanceOverlay(playerCardsGrid.getScene(), metrics,
+                    playerCardsGrid, machineTopArea, machineLeftArea, machineRightArea);
         }
     }
 
@@ -211,20 +366,19 @@ public class GameController implements Initializable {
                 // Guardamos el As pendiente y mostramos las opciones
                 pendingAce = card;
                 aceChoiceBox.setVisible(true);
-                aceOneButton.setOnAction(e -> chooseAceValue(1));
-                aceTenButton.setOnAction(e -> chooseAceValue(10));
+                aceOneButton.setOnAction(e -> chooseAceValue(game.getRules().getAceLow()));
+                aceTenButton.setOnAction(e -> chooseAceValue(game.getRules().getAceHigh()));
                 return;
             }
 
             // Jugada normal
             if (game.playCard(humanPlayer, card)) {
-                System.out.println("Jugador jugó " + card + ". Suma = " + game.getTableSum());
+                GameLog.info("Jugador jugó {}. Suma = {}", card, game.getTableSum());
                 hasPlayedThisTurn = true;
-                updateView();
             }
 
         } catch (InvalidCardPlayException e) {
-            System.out.println("❌ No puedes jugar esa carta: " + e.getMessage());
+            GameLog.info("❌ No puedes jugar esa carta: {}", e.getMessage());
             showError("Invalid play", e.getMessage());
         }
     }
@@ -243,33 +397,28 @@ public class GameController implements Initializable {
             }
 
             game.drawCard(humanPlayer);
-            System.out.println("Robaste una carta del mazo.");
-
-            checkEliminations(); // 🔹 Verificar si alguien queda eliminado
+            GameLog.info("Robaste una carta del mazo.");
 
+            // endTurn verifica las eliminaciones; las vistas ligadas ocultan a los eliminados
             hasPlayedThisTurn = false;
-            updateView();
             endHumanTurn();
 
         } catch (DeckEmptyException e) {
-            System.out.println("❌ No puedes robar carta: " + e.getMessage());
+            GameLog.info("❌ No puedes robar carta: {}", e.getMessage());
             showError("Deck empty", e.getMessage());
         }
     }
     /**
      * Allows the human player to choose the value of an Ace.
      *
-     * @param value the chosen value (1 or 10)
+     * @param value the chosen value, low or high
      */
     private void chooseAceValue(int value) {
         try {
-            // Asignamos temporalmente el valor del As
-            game.setCardValue(pendingAce, value);
-
-            if (game.playCard(humanPlayer, pendingAce)) {
-                System.out.println("Jugador jugó As como " + value + ". Suma = " + game.getTableSum());
+            // El valor elegido solo aplica a esta jugada
+            if (game.playCard(humanPlayer, pendingAce, value)) {
+                GameLog.info("Jugador jugó As como {}. Suma = {}", value, game.getTableSum());
                 hasPlayedThisTurn = true;
-                updateView();
             }
 
         } catch (InvalidCardPlayException e) {
@@ -280,19 +429,6 @@ public class GameController implements Initializable {
         }
     }
 
-    /**
-     * Checks all players and eliminates any who cannot play a valid card.
-     */
-    private void checkEliminations() {
-        for (IPlayer player : game.getPlayers()) {
-            if (!player.isEliminated() && game.mustBeEliminated(player)) {
-                game.eliminatePlayer(player);
-                System.out.println(player.getName() + " ha sido eliminado.");
-            }
-        }
-    }
-
-
     /**
      * Starts the human player's turn and updates controls.
      */
@@ -309,87 +445,189 @@ public class GameController implements Initializable {
     private void endHumanTurn() {
         humanTurn = false;
         updateControls();
-        playMachinesTurn();
+        engine.endTurn();
+        playNextMachine();
     }
 
     /**
-     * Executes the machine players' turns sequentially with delays.
-     */
-    private void playMachinesTurn() {
-        List<IPlayer> machines = game.getPlayers().subList(1, game.getPlayers().size());
-        playNextMachine(machines, 0);
-    }
-
-    /**
-     * Plays the next machine player's turn recursively.
-     *
-     * @param machines the list of machine players
-     * @param index    the current machine index
+     * Plays the next machine player's turn.
+     * <p>
+     * The machine decides on the background executor, so heavy strategies
+     * never block the FX thread; only the chosen move is posted back to the
+     * FX thread, where it is played, drawn and shown. The move is shown once
+     * the configured delay has elapsed since the decision started, or right
+     * away in turbo mode. Machines keep playing one after another until the
+     * turn comes back to the human player or the game is over.
+     * </p>
      */
-    private void playNextMachine(List<IPlayer> machines, int index) {
-        if (index >= machines.size()) {
-            checkGameOver();
+    private void playNextMachine() {
+        if (engine.isGameOver()) {
+            return; // el fin del juego lo anuncia ResultListener
+        }
+        IPlayer machine = engine.getCurrentPlayer();
+        if (!machine.isMachine()) {
             // Activar turno humano
             Platform.runLater(this::startHumanTurn);
-
-            return;
-        }
-        IPlayer machine = machines.get(index);
-        if (machine.isEliminated()) {
-            playNextMachine(machines, index + 1);
             return;
         }
 
-        PauseTransition pause = new PauseTransition(Duration.seconds(2));
-        pause.setOnFinished(e -> {
-            Card chosen = null;
-            for (Card c : new ArrayList<>(machine.getHand())) {
-                if (game.getTableSum() + game.getCardValue(c) <= 50) {
-                    chosen = c;
-                    break;
-                }
-            }
+        // Una partida nueva reemplaza el motor mientras la máquina decide
+        GameEngine current = engine;
+        long start = System.nanoTime();
+        CompletableFuture.supplyAsync(() -> current.chooseMove(machine), MACHINE_EXECUTOR)
+                .whenComplete((move, error) -> Platform.runLater(() -> {
+                    if (engine != current) return; // partida descartada
+                    if (error != null) {
+                        GameLog.warn("⚠️ Error al decidir jugada de {}: {}", machine.getName(), error.getCause());
+                    }
+                    long remaining = machineDelayMillis() - (System.nanoTime() - start) / 1_000_000;
+                    if (remaining <= 0) {
+                        applyMachineMove(machine, move);
+                    } else {
+                        PauseTransition pause = new PauseTransition(Duration.millis(remaining));
+                        pause.setOnFinished(e -> {
+                            if (engine == current) applyMachineMove(machine, move);
+                        });
+                        pause.play();
+                    }
+                }));
+    }
 
+    /**
+     * Plays a machine move decided in the background and ends its turn.
+     * Must be called on the FX thread.
+     *
+     * @param machine the machine whose turn it is
+     * @param move    the move decided, or null to pass
+     */
+    private void applyMachineMove(IPlayer machine, Move move) {
+        try {
+            Move chosen = engine.playMove(move);
             if (chosen != null) {
-                try {
-                    game.playCard(machine, chosen);
-                    System.out.println(machine.getName() + " jugó " + chosen + " (total: " + game.getTableSum() + ")");
-                    game.drawCard(machine);
-                } catch (InvalidCardPlayException | DeckEmptyException ex) {
-                    System.out.println("⚠️ Error en turno de máquina: " + ex.getMessage());
-                }
+                GameLog.info("{} jugó {} (total: {})", machine.getName(), chosen, game.getTableSum());
             }
+        } catch (DeckEmptyException ex) {
+            GameLog.warn("⚠️ Error en turno de máquina: {}", ex.getMessage());
+        }
 
-            updateView();
-            checkEliminations(); // 🔹 Verificar eliminaciones después de cada turno de máquina
-            playNextMachine(machines, index + 1);
-        });
-        pause.play();
+        engine.endTurn(); // también elimina a quien quedó bloqueado
+        playNextMachine();
     }
 
+    /**
+     * Returns the pause before each machine move is shown.
+     *
+     * @return zero in turbo mode, otherwise the delay in milliseconds
+     */
+    private long machineDelayMillis() {
+        return turboCheck.isSelected() ? 0 : machineDelayMillis;
+    }
 
     /**
-     * Checks if the game has ended and shows the winner message.
+     * Returns the pause before each machine move is shown outside turbo mode.
+     *
+     * @return the delay in milliseconds
      */
-    private void checkGameOver() {
-        if (game.isGameOver()) {
-            IPlayer winner = game.getWinner();
-            System.out.println("🎉 ¡El juego ha terminado! Ganador: " + winner.getName());
-            endGameMessage(winner);
+    public long getMachineDelayMillis() {
+        return machineDelayMillis;
+    }
+
+    /**
+     * Sets the pause before each machine move is shown outside turbo mode.
+     * <p>
+     * A delay of zero plays machine turns as fast as they are decided.
+     * </p>
+     *
+     * @param machineDelayMillis the delay in milliseconds
+     * @throws IllegalArgumentException if the delay is negative
+     */
+    public void setMachineDelayMillis(long machineDelayMillis) {
+        this.machineDelayMillis = checkMachineDelay(machineDelayMillis);
+    }
+
+    /**
+     * Parses a machine delay as written in the {@code cincuentazo.machineDelay} system property.
+     *
+     * @param value the delay in milliseconds, or null for the default delay
+     * @return the delay
+     * @throws IllegalArgumentException if the value is not a number or is negative
+     */
+    public static long parseMachineDelay(String value) {
+        if (value == null || value.isBlank()) return DEFAULT_MACHINE_DELAY_MILLIS;
+        return checkMachineDelay(Long.parseLong(value.trim()));
+    }
+
+    private static long checkMachineDelay(long machineDelayMillis) {
+        if (machineDelayMillis < 0) {
+            throw new IllegalArgumentException("El retardo de las máquinas no puede ser negativo.");
+        }
+        return machineDelayMillis;
+    }
+
+    /**
+     * Reads the delay of the {@code cincuentazo.machineDelay} system property.
+     *
+     * @return the delay, or the default delay if the property is not set or is invalid
+     */
+    private static long machineDelayProperty() {
+        String value = System.getProperty("cincuentazo.machineDelay");
+        try {
+            return parseMachineDelay(value);
+        } catch (IllegalArgumentException e) {
+            GameLog.warn("Retardo de las máquinas inválido {}: {}", value, e.getMessage());
+            return DEFAULT_MACHINE_DELAY_MILLIS;
+        }
+    }
+
+    /**
+     * Opens the recording file named by the {@code cincuentazo.record} system property.
+     *
+     * @return the writer, or null if the property is not set or the file cannot be opened
+     */
+    private static GameRecordWriter openRecording() {
+        String file = System.getProperty("cincuentazo.record");
+        if (file == null || file.isBlank()) return null;
+        try {
+            return new GameRecordWriter(Paths.get(file));
+        } catch (IOException e) {
+            GameLog.warn("No se pudo abrir el archivo de grabación {}: {}", file, e.getMessage());
+            return null;
         }
     }
 
+    /**
+     * Writes the recorded games to disk, if games are recorded.
+     */
+    private static void flushRecording() {
+        if (RECORDING == null) return;
+        try {
+            RECORDING.flush();
+        } catch (IOException e) {
+            GameLog.warn("No se pudo guardar la grabación: {}", e.getMessage());
+        }
+    }
+
+
     /**
      * Displays the end-of-game message with the winner's name.
+     * <p>
+     * If the last players were eliminated in the same turn there is no
+     * winner, and the message says so.
+     * </p>
      *
-     * @param winner the winning player
+     * @param winner the winning player, or null if none
      */
     private void endGameMessage(IPlayer winner) {
         Platform.runLater(() -> {
             Alert alert = new Alert(Alert.AlertType.INFORMATION);
             alert.setTitle("Fin del juego");
-            alert.setHeaderText("¡Tenemos un ganador!");
-            alert.setContentText("El ganador es: " + winner.getName());
+            if (winner != null) {
+                alert.setHeaderText("¡Tenemos un ganador!");
+                alert.setContentText("El ganador es: " + winner.getName());
+            } else {
+                alert.setHeaderText("¡No hay ganador!");
+                alert.setContentText("Los últimos jugadores quedaron eliminados en el mismo turno.");
+            }
             alert.showAndWait();
         });
     }
@@ -1,9 +1,12 @@
 package edu.univalle.cincuentazo.controller;
 
-import edu.univalle.cincuentazo.model.GameConfig;
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.RuleSet;
+import edu.univalle.cincuentazo.view.GameViewLoader;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.RadioButton;
 import javafx.scene.control.ToggleGroup;
@@ -14,19 +17,20 @@ import java.io.IOException;
 /**
  * Controller class for the start menu of the Cincuentazo game.
  * <p>
- * Manages the selection of the number of machine players (1 to 3) and
- * handles starting the main game window. Updates the {@link GameConfig}
- * singleton with the selected machine player count.
+ * Manages the selection of the number of machine players (1 to 3, or a
+ * large table of 15 played with as many decks as it needs) and
+ * handles starting the main game window. The selection is turned into the
+ * {@link RuleSet} of the new game; no global configuration is kept.
  * </p>
  *
  * <p>Responsibilities include:</p>
  * <ul>
  *     <li>Initializing radio buttons for machine player selection</li>
  *     <li>Enabling/disabling the start button based on selection</li>
- *     <li>Launching the game scene and passing the selected configuration to {@link GameController}</li>
+ *     <li>Launching the game scene and passing the selected rules to {@link GameController}</li>
  * </ul>
  *
- * @see GameConfig
+ * @see RuleSet
  * @see GameController
  * @since 1.0
  */
@@ -35,12 +39,10 @@ public class StartController {
     @FXML private RadioButton rb1;
     @FXML private RadioButton rb2;
     @FXML private RadioButton rb3;
+    @FXML private RadioButton rb15;
     @FXML private Button btnStart;
     @FXML private ToggleGroup playersGroup;
 
-    /** Singleton game configuration instance. */
-    private GameConfig config = GameConfig.getInstance();
-
     /** Currently selected number of machine players. */
     private int selectedMachines = 0;
 
@@ -48,7 +50,8 @@ public class StartController {
      * Initializes the controller.
      * <p>
      * Sets up the radio buttons in a toggle group, assigns event handlers
-     * for selection, and configures the start button.
+     * for selection, and configures the start button. The game view starts
+     * loading in the background while the menu is shown.
      * </p>
      */
     @FXML
@@ -58,14 +61,18 @@ public class StartController {
         rb1.setToggleGroup(playersGroup);
         rb2.setToggleGroup(playersGroup);
         rb3.setToggleGroup(playersGroup);
+        rb15.setToggleGroup(playersGroup);
 
         // Eventos de selección
         rb1.setOnAction(e -> handleSelection(1));
         rb2.setOnAction(e -> handleSelection(2));
         rb3.setOnAction(e -> handleSelection(3));
+        rb15.setOnAction(e -> handleSelection(15));
 
         btnStart.setDisable(true);
         btnStart.setOnAction(e -> startGame());
+
+        GameViewLoader.prewarm();
     }
 
     /**
@@ -75,39 +82,52 @@ public class StartController {
      */
     private void handleSelection(int machines) {
         selectedMachines = machines;
-        config.setMachinePlayers(machines);
         btnStart.setDisable(false);
     }
 
     /**
      * Starts the main game window with the selected number of machine players.
      * <p>
-     * Loads the game FXML, obtains the {@link GameController} instance,
-     * and passes the number of machines. Then it switches the current stage
-     * to display the game scene.
+     * Takes the game view prewarmed by {@link GameViewLoader}, obtains the
+     * {@link GameController} instance, and passes the rules for the selected
+     * number of machines.
+     * Then it switches the current stage to display the game scene.
      * </p>
      */
     private void startGame() {
-        System.out.println("Iniciando juego con " + selectedMachines + " jugadores máquina.");
+        GameLog.info("Iniciando juego con {} jugadores máquina.", selectedMachines);
 
         try {
-            // Cargar la vista del juego
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/edu/univalle/cincuentazo/view/cincuentazo-game-view.fxml"));
-            Scene scene = new Scene(loader.load());
+            // Tomar la vista del juego precargada
+            FXMLLoader loader = GameViewLoader.createScene();
+            Parent root = loader.getRoot();
 
-            // Obtener el controlador del juego y pasarle el número de máquinas
+            // Obtener el controlador del juego y pasarle las reglas de la partida
             GameController controller = loader.getController();
-            controller.startGame(selectedMachines);
+            controller.startGame(rulesFor(selectedMachines));
 
             // Cambiar la ventana actual
             Stage stage = (Stage) btnStart.getScene().getWindow();
-            stage.setScene(scene);
+            stage.setScene(root.getScene());
             stage.setTitle("Cincuentazo");
             stage.show();
 
         } catch (IOException e) {
-            e.printStackTrace();
-            System.err.println("Error al cargar la vista del juego.");
+            GameLog.error("Error al cargar la vista del juego.", e);
         }
     }
+
+    /**
+     * Returns the standard rules for a table with the given number of
+     * machines, adding decks until every player can be dealt a hand.
+     *
+     * @param machines the number of machine players
+     * @return the rules of the game
+     */
+    private static RuleSet rulesFor(int machines) {
+        int seats = machines + 1;
+        int cards = seats * RuleSet.STANDARD.getHandSize() + 1;
+        int decks = (cards + Card.values().length - 1) / Card.values().length;
+        return RuleSet.STANDARD.withDecks(decks).withSeats(seats);
+    }
 }
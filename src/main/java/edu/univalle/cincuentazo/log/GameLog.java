@@ -0,0 +1,416 @@
+package edu.univalle.cincuentazo.log;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, leveled event log of the game.
+ * <p>
+ * Callers never format or print anything: each event is copied into a
+ * preallocated record of a lock-free ring buffer (the message template and up
+ * to three arguments) and a single daemon thread formats and writes the
+ * records in order. Producers claim slots with a compare-and-set on the
+ * write cursor, so logging never takes the stdout lock on the calling thread;
+ * when the buffer is full the event is dropped and counted instead of
+ * blocking the game.
+ * </p>
+ *
+ * <p>
+ * Messages are templates whose {@code {}} placeholders are replaced by the
+ * arguments when the record is written. A disabled level costs a single
+ * comparison, so calls can stay in hot paths:
+ * </p>
+ *
+ * <pre>{@code
+ * GameLog.info("{} jugó {} (total: {})", name, move, sum);
+ * }</pre>
+ *
+ * <p>
+ * The initial level is read from the system property {@code cincuentazo.log}
+ * (for example {@code -Dcincuentazo.log=OFF}) and defaults to
+ * {@link Level#INFO}. If the last argument of an event is a
+ * {@link Throwable}, its stack trace is written after the message. An
+ * argument whose {@code toString()} throws does not stop the writer: the
+ * record is written up to that argument, followed by the name of the error.
+ * </p>
+ *
+ * @see Level
+ * @since 1.0
+ */
+public final class GameLog {
+
+    /** Number of records of the ring buffer; a power of two. */
+    public static final int CAPACITY = 8192;
+
+    private static final int MASK = CAPACITY - 1;
+
+    /** Longest time {@link #flush()} waits for the writer thread. */
+    private static final long FLUSH_TIMEOUT_NANOS = 5_000_000_000L;
+
+    /** Preallocated records, reused cyclically. */
+    private static final Event[] RING = new Event[CAPACITY];
+
+    /** Sequence of the next record to claim. */
+    private static final AtomicLong next = new AtomicLong();
+
+    /** Sequence of the next record to write; only advanced by the writer thread. */
+    private static volatile long consumed;
+
+    /** Events dropped because the buffer was full. */
+    private static final LongAdder dropped = new LongAdder();
+
+    /** Ordinal of the lowest enabled level. */
+    private static volatile int threshold = initialLevel().ordinal();
+
+    /** Destination of the records. */
+    private static volatile PrintStream out = System.out;
+
+    /** Thread that formats and writes the records. */
+    private static final Thread writer = new Thread(GameLog::drainLoop, "cincuentazo-log");
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            RING[i] = new Event(i - CAPACITY);
+        }
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(GameLog::flush, "cincuentazo-log-flush"));
+    }
+
+    private GameLog() {
+    }
+
+    /**
+     * Sets the lowest level that is written.
+     *
+     * @param level the new level; {@link Level#OFF} disables the log
+     */
+    public static void setLevel(Level level) {
+        threshold = level.ordinal();
+    }
+
+    /**
+     * Returns the lowest level that is written.
+     *
+     * @return the current level
+     */
+    public static Level getLevel() {
+        return Level.values()[threshold];
+    }
+
+    /**
+     * Checks if events of the given level are written.
+     *
+     * @param level the level
+     * @return true if the level is enabled
+     */
+    public static boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold;
+    }
+
+    /**
+     * Sets the destination of the records. Pending records may still go to
+     * the previous destination; call {@link #flush()} before switching.
+     *
+     * @param stream the new destination
+     */
+    public static void setOutput(PrintStream stream) {
+        out = stream;
+    }
+
+    /**
+     * Returns how many events were dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public static long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Waits until every event logged before this call has been written.
+     * <p>
+     * The wait is bounded: it ends after five seconds, or as soon as the
+     * writer thread is no longer alive, so a stuck writer never keeps the
+     * shutdown hook, and with it the JVM, from finishing.
+     * </p>
+     */
+    public static void flush() {
+        long target = next.get();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (consumed < target && writer.isAlive() && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(100_000L);
+        }
+        out.flush();
+    }
+
+    /**
+     * Logs a debug event.
+     *
+     * @param message the message
+     */
+    public static void debug(String message) {
+        if (Level.DEBUG.ordinal() >= threshold) publish(Level.DEBUG, message, null, null, null, 0);
+    }
+
+    /**
+     * Logs a debug event.
+     *
+     * @param template the message template
+     * @param a the first argument
+     */
+    public static void debug(String template, Object a) {
+        if (Level.DEBUG.ordinal() >= threshold) publish(Level.DEBUG, template, a, null, null, 1);
+    }
+
+    /**
+     * Logs a debug event.
+     *
+     * @param template the message template
+     * @param a the first argument
+     * @param b the second argument
+     */
+    public static void debug(String template, Object a, Object b) {
+        if (Level.DEBUG.ordinal() >= threshold) publish(Level.DEBUG, template, a, b, null, 2);
+    }
+
+    /**
+     * Logs a debug event.
+     *
+     * @param template the message template
+     * @param a the first argument
+     * @param b the second argument
+     * @param c the third argument
+     */
+    public static void debug(String template, Object a, Object b, Object c) {
+        if (Level.DEBUG.ordinal() >= threshold) publish(Level.DEBUG, template, a, b, c, 3);
+    }
+
+    /**
+     * Logs an informative event.
+     *
+     * @param message the message
+     */
+    public static void info(String message) {
+        if (Level.INFO.ordinal() >= threshold) publish(Level.INFO, message, null, null, null, 0);
+    }
+
+    /**
+     * Logs an informative event.
+     *
+     * @param template the message template
+     * @param a the first argument
+     */
+    public static void info(String template, Object a) {
+        if (Level.INFO.ordinal() >= threshold) publish(Level.INFO, template, a, null, null, 1);
+    }
+
+    /**
+     * Logs an informative event.
+     *
+     * @param template the message template
+     * @param a the first argument
+     * @param b the second argument
+     */
+    public static void info(String template, Object a, Object b) {
+        if (Level.INFO.ordinal() >= threshold) publish(Level.INFO, template, a, b, null, 2);
+    }
+
+    /**
+     * Logs an informative event.
+     *
+     * @param template the message template
+     * @param a the first argument
+     * @param b the second argument
+     * @param c the third argument
+     */
+    public static void info(String template, Object a, Object b, Object c) {
+        if (Level.INFO.ordinal() >= threshold) publish(Level.INFO, template, a, b, c, 3);
+    }
+
+    /**
+     * Logs a warning.
+     *
+     * @param message the message
+     */
+    public static void warn(String message) {
+        if (Level.WARN.ordinal() >= threshold) publish(Level.WARN, message, null, null, null, 0);
+    }
+
+    /**
+     * Logs a warning.
+     *
+     * @param template the message template
+     * @param a the first argument
+     */
+    public static void warn(String template, Object a) {
+        if (Level.WARN.ordinal() >= threshold) publish(Level.WARN, template, a, null, null, 1);
+    }
+
+    /**
+     * Logs a warning.
+     *
+     * @param template the message template
+     * @param a the first argument
+     * @param b the second argument
+     */
+    public static void warn(String template, Object a, Object b) {
+        if (Level.WARN.ordinal() >= threshold) publish(Level.WARN, template, a, b, null, 2);
+    }
+
+    /**
+     * Logs an error.
+     *
+     * @param message the message
+     */
+    public static void error(String message) {
+        if (Level.ERROR.ordinal() >= threshold) publish(Level.ERROR, message, null, null, null, 0);
+    }
+
+    /**
+     * Logs an error.
+     *
+     * @param template the message template
+     * @param a the first argument
+     */
+    public static void error(String template, Object a) {
+        if (Level.ERROR.ordinal() >= threshold) publish(Level.ERROR, template, a, null, null, 1);
+    }
+
+    /**
+     * Logs an error.
+     *
+     * @param template the message template
+     * @param a the first argument
+     * @param b the second argument
+     */
+    public static void error(String template, Object a, Object b) {
+        if (Level.ERROR.ordinal() >= threshold) publish(Level.ERROR, template, a, b, null, 2);
+    }
+
+    /**
+     * Copies an event into the next free record, or drops it if the buffer is full.
+     */
+    private static void publish(Level level, String template, Object a, Object b, Object c, int argCount) {
+        long seq;
+        do {
+            seq = next.get();
+            if (seq - consumed >= CAPACITY) {
+                dropped.increment();
+                return;
+            }
+        } while (!next.compareAndSet(seq, seq + 1));
+
+        Event e = RING[(int) (seq & MASK)];
+        e.level = level;
+        e.nanoTime = System.nanoTime();
+        e.thread = Thread.currentThread().getName();
+        e.template = template;
+        e.a = a;
+        e.b = b;
+        e.c = c;
+        e.argCount = argCount;
+        e.sequence = seq; // publica el registro al escritor
+    }
+
+    /**
+     * Body of the writer thread: writes the records in sequence order.
+     */
+    private static void drainLoop() {
+        StringBuilder line = new StringBuilder(256);
+        long start = System.nanoTime();
+        while (true) {
+            long seq = consumed;
+            Event e = RING[(int) (seq & MASK)];
+            if (e.sequence != seq) {
+                out.flush();
+                LockSupport.parkNanos(1_000_000L);
+                continue;
+            }
+            line.setLength(0);
+            PrintStream stream = out;
+            try {
+                e.format(line, start);
+                stream.println(line);
+                Object last = e.argCount == 0 ? null : e.arg(e.argCount - 1);
+                if (last instanceof Throwable t) {
+                    t.printStackTrace(stream);
+                }
+            } catch (Throwable t) {
+                // Un toString() que falla no puede detener al escritor
+                stream.println(line.append("<error al escribir el registro: ")
+                        .append(t.getClass().getName()).append('>'));
+            } finally {
+                e.clear();
+                consumed = seq + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the initial level from the {@code cincuentazo.log} system property.
+     */
+    private static Level initialLevel() {
+        String value = System.getProperty("cincuentazo.log");
+        if (value == null) return Level.INFO;
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    /**
+     * Preallocated record of the ring buffer.
+     */
+    private static final class Event {
+
+        /** Sequence of the event stored in this record; written last by the producer. */
+        volatile long sequence;
+
+        Level level;
+        long nanoTime;
+        String thread;
+        String template;
+        Object a;
+        Object b;
+        Object c;
+        int argCount;
+
+        Event(long sequence) {
+            this.sequence = sequence;
+        }
+
+        Object arg(int i) {
+            return i == 0 ? a : i == 1 ? b : c;
+        }
+
+        /**
+         * Appends the formatted event: elapsed milliseconds, level, thread and message.
+         */
+        void format(StringBuilder sb, long start) {
+            sb.append(String.format(Locale.ROOT, "%10.3f", (nanoTime - start) / 1e6))
+                    .append(' ').append(level)
+                    .append(" [").append(thread).append("] ");
+            int arg = 0;
+            int from = 0;
+            int at;
+            while (arg < argCount && (at = template.indexOf("{}", from)) >= 0) {
+                sb.append(template, from, at).append(arg(arg++));
+                from = at + 2;
+            }
+            sb.append(template, from, template.length());
+        }
+
+        void clear() {
+            thread = null;
+            template = null;
+            a = null;
+            b = null;
+            c = null;
+        }
+    }
+}
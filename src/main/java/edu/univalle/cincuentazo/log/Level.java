@@ -0,0 +1,20 @@
+package edu.univalle.cincuentazo.log;
+
+/**
+ * Severity levels of the {@link GameLog}, from the most verbose to none.
+ *
+ * @see GameLog
+ * @since 1.0
+ */
+public enum Level {
+    /** Detailed tracing, disabled by default. */
+    DEBUG,
+    /** Normal game events such as moves and eliminations. */
+    INFO,
+    /** Unexpected situations the game recovers from. */
+    WARN,
+    /** Failures. */
+    ERROR,
+    /** Disables logging. */
+    OFF
+}
@@ -1,6 +1,5 @@
 package edu.univalle.cincuentazo.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
 
@@ -23,8 +22,8 @@ public abstract class AbstractPlayer implements IPlayer {
     /** Indicates whether this player is a machine. */
     protected final boolean isMachine;
 
-    /** The list of cards currently held by the player. */
-    protected final List<Card> hand;
+    /** The set of cards currently held by the player. */
+    protected final CardSet hand;
 
     /** Indicates whether the player has been eliminated from the game. */
     protected boolean eliminated = false;
@@ -38,7 +37,7 @@ public abstract class AbstractPlayer implements IPlayer {
     public AbstractPlayer(String name, boolean isMachine) {
         this.name = name;
         this.isMachine = isMachine;
-        this.hand = new ArrayList<>();
+        this.hand = new CardSet();
     }
 
     /**
@@ -83,11 +82,24 @@ public abstract class AbstractPlayer implements IPlayer {
 
     /**
      * Returns the current hand of the player.
+     * <p>
+     * The list is a live view of the player's card set.
+     * </p>
      *
      * @return a list of cards held by the player
      */
     @Override
     public List<Card> getHand() {
+        return hand.asList();
+    }
+
+    /**
+     * Returns the current hand of the player as a card set.
+     *
+     * @return the set of cards held by the player
+     */
+    @Override
+    public CardSet getHandSet() {
         return hand;
     }
 
@@ -115,7 +127,8 @@ public abstract class AbstractPlayer implements IPlayer {
      * Determines if the player can make a valid move in the current game state.
      * <p>
      * A player can play if any card in their hand does not cause the table sum
-     * to exceed 50.
+     * to exceed the limit of the game. The check is a single mask intersection
+     * with the playable cards of the game.
      * </p>
      *
      * @param game the current game instance
@@ -123,12 +136,7 @@ public abstract class AbstractPlayer implements IPlayer {
      */
     @Override
     public boolean canPlay(Game game) {
-        for (Card c : hand) {
-            if (game.getTableSum() + game.getCardValue(c) <= 50) {
-                return true;
-            }
-        }
-        return false;
+        return hand.intersects(game.playableMask());
     }
 
     /**
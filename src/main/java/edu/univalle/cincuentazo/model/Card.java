@@ -4,8 +4,8 @@ package edu.univalle.cincuentazo.model;
  * Represents a playing card in the Cincuentazo game.
  * <p>
  * Each card has an associated image file and belongs to one of the four suits:
- * Clubs, Diamonds, Hearts, or Spades. The card value (Ace, 2-10, Jack, Queen, King)
- * is encoded in its filename.
+ * Clubs, Diamonds, Hearts, or Spades. The card rank (Ace, 2-10, Jack, Queen, King)
+ * is encoded in its filename and parsed once, together with its default value.
  * </p>
  *
  * <p>
@@ -36,16 +36,63 @@ public enum Card {
     S05("s05.png"), S06("s06.png"), S07("s07.png"), S08("s08.png"),
     S09("s09.png"), S10("s10.png"), S11("s11.png"), S12("s12.png"), S13("s13.png");
 
+    /** Cached copy of {@link #values()} to avoid cloning it on every lookup. */
+    private static final Card[] CARDS = values();
+
     /** The filename of the card image. */
     private final String fileName;
 
+    /** The rank of the card, from 1 (Ace) to 13 (King). */
+    private final int rank;
+
+    /** The default value of the card in the game. */
+    private final int value;
+
     /**
      * Constructs a card with its associated image filename.
+     * <p>
+     * The rank and default value are parsed from the filename once, when the
+     * enum is initialized.
+     * </p>
      *
      * @param fileName the name of the image file representing the card
      */
     Card(String fileName) {
         this.fileName = fileName;
+        this.rank = Integer.parseInt(fileName.substring(1, 3));
+        this.value = rank >= 11 ? -10 : rank;
+    }
+
+    /**
+     * Returns the card with the given ordinal.
+     *
+     * @param ordinal the position of the card in the declaration order
+     * @return the card with that ordinal
+     */
+    public static Card fromOrdinal(int ordinal) {
+        return CARDS[ordinal];
+    }
+
+    /**
+     * Returns the rank of the card.
+     *
+     * @return the rank, from 1 (Ace) to 13 (King)
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * Returns the default value of the card in the game.
+     * <p>
+     * Number cards are worth their rank, the Ace is worth 1 and the Jack,
+     * Queen and King are worth -10.
+     * </p>
+     *
+     * @return the default card value
+     */
+    public int getValue() {
+        return value;
     }
 
     /**
@@ -68,13 +115,10 @@ public enum Card {
 
     /**
      * Checks if the card is an Ace.
-     * <p>
-     * Determined by whether the filename ends with "01.png".
-     * </p>
      *
      * @return true if the card is an Ace, false otherwise
      */
     public boolean isAce() {
-        return fileName.endsWith("01.png");
+        return rank == 1;
     }
 }
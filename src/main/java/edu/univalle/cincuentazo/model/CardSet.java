@@ -0,0 +1,562 @@
+package edu.univalle.cincuentazo.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of cards backed by a single 64-bit mask.
+ * <p>
+ * Each {@link Card} is mapped to the bit given by its ordinal, so membership,
+ * insertion and removal are constant-time bit operations and whole-set
+ * queries (such as "does this hand contain a playable card?") can be answered
+ * with a single {@code AND} against a precomputed mask. Static masks are
+ * provided for every suit and every rank.
+ * </p>
+ *
+ * <p>
+ * Iteration always follows the declaration order of {@link Card}: suit by suit
+ * and, inside a suit, from Ace to King.
+ * </p>
+ *
+ * <p>
+ * Games played with several decks hold more than one copy of a card. The
+ * first copy of each card lives in the main mask and every further copy in
+ * an extra mask, created the first time a copy is added, so that the
+ * {@code n}-th mask holds the cards present at least {@code n + 1} times.
+ * {@link #bits()} and the mask queries see the distinct cards, which is all
+ * that playability depends on, and single-deck sets never allocate the extra
+ * masks. Copies of a card are iterated one after the other. A set holds at
+ * most {@value RuleSet#MAX_DECKS} copies of a card; the game lowers that
+ * limit to the number of decks of its rules for the table and every hand.
+ * </p>
+ *
+ * <p>
+ * The game also locks the table and the hands of its players, so their
+ * public mutators and those of the list view throw
+ * {@link UnsupportedOperationException}. Every change then goes through the
+ * game, which keeps its seat index and observable properties in step with
+ * the cards.
+ * </p>
+ *
+ * @see Card
+ * @since 1.0
+ */
+public final class CardSet {
+
+    /** Number of cards of each suit. */
+    public static final int RANKS = 13;
+
+    /** Number of suits in the deck. */
+    public static final int SUITS = 4;
+
+    /** Mask containing every card of the deck. */
+    public static final long ALL = (1L << (RANKS * SUITS)) - 1;
+
+    /** Masks of each suit, indexed by suit (clubs, diamonds, hearts, spades). */
+    private static final long[] SUIT_MASKS = new long[SUITS];
+
+    /** Masks of each rank, indexed by rank minus one (Ace = 0, King = 12). */
+    private static final long[] RANK_MASKS = new long[RANKS];
+
+    static {
+        for (int suit = 0; suit < SUITS; suit++) {
+            for (int rank = 0; rank < RANKS; rank++) {
+                long bit = 1L << (suit * RANKS + rank);
+                SUIT_MASKS[suit] |= bit;
+                RANK_MASKS[rank] |= bit;
+            }
+        }
+    }
+
+    /** The bits of the cards contained in this set. */
+    private long bits;
+
+    /** Extra copies: element {@code k} holds the cards present more than {@code k + 1} times, or null. */
+    private long[] copies;
+
+    /** Highest number of copies of a card the set may hold. */
+    private int maxCopies = RuleSet.MAX_DECKS;
+
+    /** Whether only the owning game may change this set. */
+    private boolean locked;
+
+    /** Lazily created list view of this set. */
+    private List<Card> view;
+
+    /**
+     * Constructs an empty card set.
+     */
+    public CardSet() {
+    }
+
+    /**
+     * Constructs a card set containing the cards of the given mask.
+     *
+     * @param bits the initial mask
+     */
+    public CardSet(long bits) {
+        this.bits = bits & ALL;
+    }
+
+    /**
+     * Returns the bit that represents the given card.
+     *
+     * @param card the card
+     * @return a mask with only the card's bit set
+     */
+    public static long bit(Card card) {
+        return 1L << card.ordinal();
+    }
+
+    /**
+     * Returns the mask of every card of the given suit.
+     *
+     * @param suit the suit index, from 0 (clubs) to 3 (spades)
+     * @return the suit mask
+     */
+    public static long suitMask(int suit) {
+        return SUIT_MASKS[suit];
+    }
+
+    /**
+     * Returns the mask of every card of the given rank.
+     *
+     * @param rank the rank, from 1 (Ace) to 13 (King)
+     * @return the rank mask
+     */
+    public static long rankMask(int rank) {
+        return RANK_MASKS[rank - 1];
+    }
+
+    /**
+     * Returns the mask of the distinct cards in this set.
+     *
+     * @return the mask
+     */
+    public long bits() {
+        return bits;
+    }
+
+    /**
+     * Returns the mask of the cards present more than the given number of times.
+     *
+     * @param copy the copy index, 0 being the first copy of each card
+     * @return the mask of the cards that have that copy
+     */
+    public long bits(int copy) {
+        if (copy == 0) return bits;
+        return copies == null || copy > copies.length ? 0L : copies[copy - 1];
+    }
+
+    /**
+     * Returns the highest number of copies of a card this set may hold.
+     *
+     * @return the copy limit
+     */
+    public int getMaxCopies() {
+        return maxCopies;
+    }
+
+    /**
+     * Sets the highest number of copies of a card this set may hold.
+     *
+     * @param maxCopies the copy limit, from 1 to {@value RuleSet#MAX_DECKS}
+     * @throws IllegalArgumentException if the limit is out of range
+     * @throws IllegalStateException    if the set already holds more copies than the limit
+     */
+    void setMaxCopies(int maxCopies) {
+        if (maxCopies < 1 || maxCopies > RuleSet.MAX_DECKS) {
+            throw new IllegalArgumentException("El número de copias debe estar entre 1 y " + RuleSet.MAX_DECKS + ".");
+        }
+        if (bits(maxCopies) != 0) {
+            throw new IllegalStateException("El conjunto ya tiene más de " + maxCopies + " copias de una carta.");
+        }
+        this.maxCopies = maxCopies;
+    }
+
+    /**
+     * Checks if this set can only be changed by the game that owns it.
+     *
+     * @return true if the public mutators throw
+     */
+    public boolean isLocked() {
+        return locked;
+    }
+
+    /**
+     * Locks this set, so that only the package-private mutators used by
+     * {@link Game} can change it from now on.
+     */
+    void lock() {
+        locked = true;
+    }
+
+    /**
+     * Throws if this set is locked.
+     */
+    private void checkUnlocked() {
+        if (locked) {
+            throw new UnsupportedOperationException("Solo el juego puede cambiar estas cartas.");
+        }
+    }
+
+    /**
+     * Replaces the content of this set with one copy of each card of the given mask.
+     *
+     * @param bits the new mask
+     * @throws UnsupportedOperationException if the set is locked
+     */
+    public void setBits(long bits) {
+        checkUnlocked();
+        replace(bits);
+    }
+
+    /**
+     * Replaces the content of this set with one copy of each card of the
+     * given mask, even if the set is locked.
+     *
+     * @param bits the new mask
+     */
+    void replace(long bits) {
+        this.bits = bits & ALL;
+        if (copies != null) Arrays.fill(copies, 0L);
+    }
+
+    /**
+     * Replaces the mask of one copy index.
+     * <p>
+     * Used to restore a set from the masks returned by {@link #bits(int)};
+     * every copy mask must be contained in the mask of the previous copy.
+     * </p>
+     *
+     * @param copy the copy index, 0 being the first copy of each card
+     * @param bits the cards that have that copy
+     * @throws IllegalStateException if the copy index is past the copy limit and the mask is not empty
+     * @throws UnsupportedOperationException if the set is locked
+     */
+    public void setBits(int copy, long bits) {
+        checkUnlocked();
+        replace(copy, bits);
+    }
+
+    /**
+     * Replaces the mask of one copy index, even if the set is locked.
+     *
+     * @param copy the copy index, 0 being the first copy of each card
+     * @param bits the cards that have that copy
+     * @throws IllegalStateException if the copy index is past the copy limit and the mask is not empty
+     */
+    void replace(int copy, long bits) {
+        if (copy >= maxCopies && bits != 0) {
+            throw new IllegalStateException("El conjunto admite como máximo " + maxCopies + " copias de una carta.");
+        }
+        if (copy == 0) {
+            this.bits = bits & ALL;
+            return;
+        }
+        if (copies == null || copy > copies.length) {
+            if (bits == 0) return;
+            copies = copies == null ? new long[copy] : Arrays.copyOf(copies, copy);
+        }
+        copies[copy - 1] = bits & ALL;
+    }
+
+    /**
+     * Adds a card to the set.
+     * <p>
+     * Adding a card that is already in the set adds another copy of it.
+     * </p>
+     *
+     * @param card the card to add
+     * @return true if this is the first copy of the card in the set
+     * @throws IllegalStateException if the set already holds as many copies of the card as allowed
+     * @throws UnsupportedOperationException if the set is locked
+     */
+    public boolean add(Card card) {
+        checkUnlocked();
+        return insert(card);
+    }
+
+    /**
+     * Adds a card to the set, even if the set is locked.
+     *
+     * @param card the card to add
+     * @return true if this is the first copy of the card in the set
+     * @throws IllegalStateException if the set already holds as many copies of the card as allowed
+     */
+    boolean insert(Card card) {
+        long bit = bit(card);
+        if ((bits & bit) == 0) {
+            bits |= bit;
+            return true;
+        }
+        // Otra copia de la misma carta: solo ocurre con varias barajas
+        int k = 0;
+        if (copies != null) {
+            while (k < copies.length && (copies[k] & bit) != 0) k++;
+        }
+        if (k + 1 >= maxCopies) {
+            throw new IllegalStateException("Ya hay " + maxCopies + " copias de " + card + ".");
+        }
+        if (copies == null || k == copies.length) {
+            copies = copies == null ? new long[1] : Arrays.copyOf(copies, k + 1);
+        }
+        copies[k] |= bit;
+        return false;
+    }
+
+    /**
+     * Removes one copy of a card from the set.
+     *
+     * @param card the card to remove
+     * @return true if the card was in the set
+     * @throws UnsupportedOperationException if the set is locked
+     */
+    public boolean remove(Card card) {
+        checkUnlocked();
+        return delete(card);
+    }
+
+    /**
+     * Removes one copy of a card from the set, even if the set is locked.
+     *
+     * @param card the card to remove
+     * @return true if the card was in the set
+     */
+    boolean delete(Card card) {
+        long bit = bit(card);
+        if ((bits & bit) == 0) return false;
+        if (copies != null) {
+            for (int k = copies.length - 1; k >= 0; k--) {
+                if ((copies[k] & bit) != 0) {
+                    copies[k] &= ~bit;
+                    return true;
+                }
+            }
+        }
+        bits &= ~bit;
+        return true;
+    }
+
+    /**
+     * Returns the number of copies of a card in the set.
+     *
+     * @param card the card
+     * @return the number of copies, 0 if the card is not in the set
+     */
+    public int count(Card card) {
+        long bit = bit(card);
+        if ((bits & bit) == 0) return 0;
+        int count = 1;
+        if (copies != null) {
+            for (long plane : copies) {
+                if ((plane & bit) == 0) break;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if the set contains the given card.
+     *
+     * @param card the card to look for
+     * @return true if the card is in the set
+     */
+    public boolean contains(Card card) {
+        return (bits & bit(card)) != 0;
+    }
+
+    /**
+     * Checks if the set contains at least one card of the given mask.
+     *
+     * @param mask the mask to test
+     * @return true if any card of the mask is in the set
+     */
+    public boolean intersects(long mask) {
+        return (bits & mask) != 0;
+    }
+
+    /**
+     * Returns the number of cards in the set.
+     *
+     * @return the size of the set
+     */
+    public int size() {
+        int size = Long.bitCount(bits);
+        if (copies != null) {
+            for (long plane : copies) {
+                size += Long.bitCount(plane);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Checks if the set is empty.
+     *
+     * @return true if the set holds no cards
+     */
+    public boolean isEmpty() {
+        return bits == 0;
+    }
+
+    /**
+     * Removes every card from the set.
+     *
+     * @throws UnsupportedOperationException if the set is locked
+     */
+    public void clear() {
+        checkUnlocked();
+        reset();
+    }
+
+    /**
+     * Removes every card from the set, even if the set is locked.
+     */
+    void reset() {
+        bits = 0;
+        if (copies != null) Arrays.fill(copies, 0L);
+    }
+
+    /**
+     * Returns the first card of the given mask, in declaration order.
+     *
+     * @param mask the mask
+     * @return the first card, or null if the mask is empty
+     */
+    public static Card first(long mask) {
+        return mask == 0 ? null : Card.fromOrdinal(Long.numberOfTrailingZeros(mask));
+    }
+
+    /**
+     * Returns the card at the given position of the set, in declaration order.
+     * <p>
+     * The copies of a card occupy consecutive positions.
+     * </p>
+     *
+     * @param index the position of the card
+     * @return the card at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Card get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fuera de rango.");
+        }
+        long remaining = bits;
+        if (copies == null) {
+            for (int i = 0; i < index; i++) {
+                remaining &= remaining - 1;
+            }
+            return first(remaining);
+        }
+        for (int left = index; ; remaining &= remaining - 1) {
+            Card card = first(remaining);
+            int count = count(card);
+            if (left < count) return card;
+            left -= count;
+        }
+    }
+
+    /**
+     * Returns a live list view of this set.
+     * <p>
+     * The view reflects every change of the set and supports adding, removing
+     * and clearing cards, which are applied directly on the underlying mask
+     * unless the set is locked.
+     * </p>
+     *
+     * @return the list view
+     */
+    public List<Card> asList() {
+        if (view == null) {
+            view = new ListView();
+        }
+        return view;
+    }
+
+    /**
+     * List view over the bits of the enclosing set.
+     */
+    private final class ListView extends AbstractList<Card> {
+
+        @Override
+        public Card get(int index) {
+            return CardSet.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return CardSet.this.size();
+        }
+
+        @Override
+        public boolean add(Card card) {
+            return CardSet.this.add(card);
+        }
+
+        @Override
+        public Card remove(int index) {
+            Card card = CardSet.this.get(index);
+            CardSet.this.remove(card);
+            return card;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return o instanceof Card card && CardSet.this.remove(card);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Card card && CardSet.this.contains(card);
+        }
+
+        @Override
+        public void clear() {
+            CardSet.this.clear();
+        }
+
+        @Override
+        public Iterator<Card> iterator() {
+            return new Iterator<>() {
+                private long remaining = bits;
+                private int pendingCopies;
+                private Card current;
+                private Card last;
+
+                @Override
+                public boolean hasNext() {
+                    return pendingCopies > 0 || remaining != 0;
+                }
+
+                @Override
+                public Card next() {
+                    if (pendingCopies > 0) {
+                        pendingCopies--;
+                        return last = current;
+                    }
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    current = first(remaining);
+                    remaining &= remaining - 1;
+                    if (copies != null) pendingCopies = count(current) - 1;
+                    return last = current;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    CardSet.this.remove(last);
+                    last = null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package edu.univalle.cincuentazo.model;
+
+import java.util.Arrays;
+
+/**
+ * Immutable table of card values used by a game.
+ * <p>
+ * Values are stored in a primitive array indexed by {@link Card#ordinal()},
+ * together with the masks of playable cards for every amount of room left
+ * under the table limit. The standard table is computed once and shared by
+ * every game; per-game overrides create a new table with {@link #with(Card, int)}
+ * instead of mutating the shared one.
+ * </p>
+ *
+ * @see Card
+ * @see Game
+ * @since 1.0
+ */
+final class CardValues {
+
+    /** The standard values of the cards, shared by every game. */
+    static final CardValues STANDARD = standard();
+
+    /** Value of each card, indexed by ordinal. */
+    private final int[] values;
+
+    /** Lowest and highest value in the table. */
+    private final int minValue;
+    private final int maxValue;
+
+    /** Mask of the cards whose value is at most {@code minValue + i}, indexed by {@code i}. */
+    private final long[] playableByRoom;
+
+    /**
+     * Constructs a table from the given values.
+     *
+     * @param values the value of each card, indexed by ordinal; not copied
+     */
+    private CardValues(int[] values) {
+        this.values = values;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        this.minValue = min;
+        this.maxValue = max;
+        this.playableByRoom = new long[max - min + 1];
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            for (int i = values[ordinal] - min; i < playableByRoom.length; i++) {
+                playableByRoom[i] |= 1L << ordinal;
+            }
+        }
+    }
+
+    /**
+     * Builds the standard table from the default value of each card.
+     *
+     * @return the standard table
+     */
+    private static CardValues standard() {
+        Card[] cards = Card.values();
+        int[] values = new int[cards.length];
+        for (Card c : cards) {
+            values[c.ordinal()] = c.getValue();
+        }
+        return new CardValues(values);
+    }
+
+    /**
+     * Returns the value of the given card.
+     *
+     * @param card the card
+     * @return the card value
+     */
+    int valueOf(Card card) {
+        return values[card.ordinal()];
+    }
+
+    /**
+     * Returns the lowest value of the table.
+     *
+     * @return the minimum card value
+     */
+    int minValue() {
+        return minValue;
+    }
+
+    /**
+     * Returns the highest value of the table.
+     *
+     * @return the maximum card value
+     */
+    int maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the lowest value among the cards of a mask.
+     *
+     * @param cards the mask of cards, not empty
+     * @return the minimum value of those cards
+     */
+    int minValueOf(long cards) {
+        int min = Integer.MAX_VALUE;
+        for (long bits = cards; bits != 0; bits &= bits - 1) {
+            min = Math.min(min, values[Long.numberOfTrailingZeros(bits)]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the mask of the cards whose value is at most the given room.
+     *
+     * @param room the maximum value allowed
+     * @return the mask of playable cards
+     */
+    long playableMask(int room) {
+        if (room < minValue) return 0L;
+        if (room >= maxValue) return playableByRoom[playableByRoom.length - 1];
+        return playableByRoom[room - minValue];
+    }
+
+    /**
+     * Returns a copy of this table where the given card has a different value.
+     *
+     * @param card  the card to override
+     * @param value the new value
+     * @return the new table
+     */
+    CardValues with(Card card, int value) {
+        int[] copy = values.clone();
+        copy[card.ordinal()] = value;
+        return new CardValues(copy);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof CardValues other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
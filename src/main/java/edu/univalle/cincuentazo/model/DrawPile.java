@@ -0,0 +1,193 @@
+package edu.univalle.cincuentazo.model;
+
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fixed-capacity draw pile for the Cincuentazo deck.
+ * <p>
+ * Cards are stored in a circular array whose capacity is a power of two, so
+ * drawing from the top and returning cards to the bottom are both O(1) and
+ * never shift elements. Refilling the pile from the table writes the cards
+ * in place and shuffles them with Fisher–Yates, without creating any
+ * intermediate collection.
+ * </p>
+ *
+ * @see Game
+ * @see CardSet
+ * @since 1.0
+ */
+public final class DrawPile {
+
+    /** Circular storage of the cards. */
+    private final Card[] cards;
+
+    /** Mask used to wrap indexes around the storage. */
+    private final int mask;
+
+    /** Index of the top card. */
+    private int head;
+
+    /** Number of cards in the pile. */
+    private int size;
+
+    /**
+     * Constructs an empty draw pile able to hold at least the given number of cards.
+     *
+     * @param capacity the minimum number of cards the pile must hold
+     */
+    public DrawPile(int capacity) {
+        int length = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.cards = new Card[length];
+        this.mask = length - 1;
+    }
+
+    /**
+     * Returns the number of cards in the pile.
+     *
+     * @return the pile size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the pile is empty.
+     *
+     * @return true if there are no cards left
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the card at the given position, counting from the top.
+     *
+     * @param index the position, 0 being the top card
+     * @return the card at that position
+     */
+    public Card get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fuera de rango.");
+        }
+        return cards[(head + index) & mask];
+    }
+
+    /**
+     * Removes and returns the top card of the pile.
+     *
+     * @return the top card
+     * @throws NoSuchElementException if the pile is empty
+     */
+    public Card draw() {
+        if (size == 0) {
+            throw new NoSuchElementException("El mazo está vacío.");
+        }
+        Card card = cards[head];
+        cards[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        return card;
+    }
+
+    /**
+     * Places a card at the bottom of the pile.
+     *
+     * @param card the card to add
+     * @throws IllegalStateException if the pile is full
+     */
+    public void addBottom(Card card) {
+        if (size == cards.length) {
+            throw new IllegalStateException("El mazo está lleno.");
+        }
+        cards[(head + size) & mask] = card;
+        size++;
+    }
+
+    /**
+     * Places every card of the given mask at the bottom of the pile,
+     * in declaration order.
+     *
+     * @param bits the mask of cards to add
+     */
+    public void addAll(long bits) {
+        for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+            addBottom(Card.fromOrdinal(Long.numberOfTrailingZeros(remaining)));
+        }
+    }
+
+    /**
+     * Places every card of the given set at the bottom of the pile, copies
+     * included: first one copy of each card in declaration order, then the
+     * second copies, and so on.
+     *
+     * @param set the cards to add
+     */
+    public void addAll(CardSet set) {
+        for (int copy = 0; ; copy++) {
+            long bits = set.bits(copy);
+            if (bits == 0) return;
+            addAll(bits);
+        }
+    }
+
+    /**
+     * Writes the ordinals of the cards of the pile into the given array,
+     * from the top card to the bottom one.
+     *
+     * @param dst the destination array, with room for at least {@link #size()} cards
+     * @return the number of cards written
+     */
+    public int copyTo(byte[] dst) {
+        for (int i = 0; i < size; i++) {
+            dst[i] = (byte) cards[(head + i) & mask].ordinal();
+        }
+        return size;
+    }
+
+    /**
+     * Replaces the content of the pile with the given card ordinals,
+     * from the top card to the bottom one.
+     *
+     * @param src   the card ordinals
+     * @param count the number of cards to load
+     * @throws IllegalStateException if the pile cannot hold that many cards
+     */
+    public void load(byte[] src, int count) {
+        if (count > cards.length) {
+            throw new IllegalStateException("El mazo está lleno.");
+        }
+        clear();
+        for (int i = 0; i < count; i++) {
+            cards[i] = Card.fromOrdinal(src[i]);
+        }
+        size = count;
+    }
+
+    /**
+     * Removes every card from the pile.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            cards[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Shuffles the cards of the pile in place using Fisher–Yates.
+     *
+     * @param random the random generator to use
+     */
+    public void shuffle(RandomGenerator random) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int a = (head + i) & mask;
+            int b = (head + j) & mask;
+            Card tmp = cards[a];
+            cards[a] = cards[b];
+            cards[b] = tmp;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package edu.univalle.cincuentazo.model;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
  * Maintains a collection of players who have been eliminated from the game.
  * <p>
  * Provides methods to add eliminated players, check if a player is eliminated,
- * retrieve all eliminated players, and get the total count.
+ * retrieve all eliminated players, and get the total count. Players are kept
+ * in the order they were eliminated.
  * </p>
  *
  * @see IPlayer
@@ -15,23 +19,31 @@ import java.util.Set;
  */
 public class EliminatedPlayers {
 
-    /** Set of eliminated players. */
-    private final Set<IPlayer> eliminated = new HashSet<>();
+    /** Eliminated players, in elimination order. */
+    private final List<IPlayer> eliminated = new ArrayList<>();
+
+    /** Read-only view of the eliminated players. */
+    private final List<IPlayer> view = Collections.unmodifiableList(eliminated);
 
     /**
-     * Adds a player to the eliminated set.
+     * Adds a player to the eliminated players.
+     * <p>
+     * Adding a player that is already eliminated has no effect.
+     * </p>
      *
      * @param player the player to mark as eliminated
      */
     public void add(IPlayer player) {
-        eliminated.add(player);
+        if (!eliminated.contains(player)) {
+            eliminated.add(player);
+        }
     }
 
     /**
      * Checks if a player has been eliminated.
      *
      * @param player the player to check
-     * @return true if the player is in the eliminated set, false otherwise
+     * @return true if the player is among the eliminated players, false otherwise
      */
     public boolean contains(IPlayer player) {
         return eliminated.contains(player);
@@ -41,21 +53,37 @@ public class EliminatedPlayers {
      * Returns a copy of all eliminated players.
      * <p>
      * The returned set is a new copy to avoid external modification
-     * of the internal collection.
+     * of the internal collection. Its iteration order is the elimination order.
      * </p>
      *
      * @return a set containing all eliminated players
      */
     public Set<IPlayer> getAll() {
-        return new HashSet<>(eliminated);
+        return new LinkedHashSet<>(eliminated);
+    }
+
+    /**
+     * Returns a read-only view of the eliminated players in elimination order.
+     *
+     * @return the eliminated players, first eliminated first
+     */
+    public List<IPlayer> asList() {
+        return view;
     }
 
     /**
      * Returns the number of eliminated players.
      *
-     * @return the size of the eliminated set
+     * @return the number of eliminated players
      */
     public int count() {
         return eliminated.size();
     }
+
+    /**
+     * Removes every player from the eliminated players.
+     */
+    public void clear() {
+        eliminated.clear();
+    }
 }
@@ -4,6 +4,7 @@ import edu.univalle.cincuentazo.exceptions.DeckEmptyException;
 import edu.univalle.cincuentazo.exceptions.InvalidCardPlayException;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a game of Cincuentazo.
@@ -13,6 +14,12 @@ import java.util.*;
  * </p>
  *
  * <p>
+ * The limit of the table, the hand size and the card values come from the
+ * {@link RuleSet} given when the game is created; games created without one
+ * follow {@link RuleSet#STANDARD}.
+ * </p>
+ *
+ * <p>
  * Responsibilities include:
  * <ul>
  *     <li>Initializing the deck and shuffling it</li>
@@ -25,6 +32,27 @@ import java.util.*;
  * </ul>
  * </p>
  *
+ * <p>
+ * The table sum, the top card and the hand and elimination flag of each
+ * seat are also exposed as observable values, which front ends can bind to
+ * without depending on the game events.
+ * </p>
+ *
+ * <p>
+ * Tables of up to {@value RuleSet#MAX_SEATS} seats are supported, with as
+ * many decks as the rules ask for. The work of a turn does not grow with the
+ * number of seats: the active seats are kept in a bit mask, and every active
+ * seat is indexed by the lowest value in its hand, so the seats that can no
+ * longer play are found from the table sum alone. The index of a seat is
+ * refreshed whenever the game changes its hand.
+ * </p>
+ *
+ * <p>
+ * The game locks the table and the hands of its players (see
+ * {@link CardSet#isLocked()}), so the cards only move through its own
+ * methods and the index and the observable properties never go stale.
+ * </p>
+ *
  * @see IPlayer
  * @see Card
  * @see InvalidCardPlayException
@@ -33,13 +61,41 @@ import java.util.*;
  */
 public class Game {
 
-    private final List<Card> deck = new ArrayList<>();
+    /** Shared empty listener array, so games without listeners dispatch over nothing. */
+    private static final GameListener[] NO_LISTENERS = new GameListener[0];
+
+    private final DrawPile deck;
     private final List<IPlayer> players = new ArrayList<>();
-    private final List<Card> table = new ArrayList<>(); // mesa de juego
+    private final Map<IPlayer, Integer> seats = new IdentityHashMap<>();
+    private final CardSet table = new CardSet(); // mesa de juego
     private Card currentTableCard;
     private int tableSum;
-    private final Map<Card, Integer> values = new HashMap<>();
+    private RuleSet rules;
     private final EliminatedPlayers eliminatedPlayers = new EliminatedPlayers();
+    private final RandomGenerator random;
+    private int recycleCount;
+    private GameListener[] listeners = NO_LISTENERS;
+    private boolean gameOverPublished;
+    private final ObservableInt tableSumValue = new ObservableInt();
+    private final ObservableObject<Card> topCardValue = new ObservableObject<>();
+    private final ObservableLong[] handValues;
+    private final ObservableInt[] handSizeValues;
+    private final ObservableBoolean[] eliminatedValues;
+
+    /** Mask of the seats that are not eliminated. */
+    private int activeSeats;
+
+    /** Mask of the active seats with an empty hand. */
+    private int emptySeats;
+
+    /**
+     * Masks of the active seats by the lowest value in their hand, indexed by
+     * that value minus the lowest value of the rules.
+     */
+    private int[] seatsByMinValue;
+
+    /** Index in {@link #seatsByMinValue} of each seat, or -1 if it is not there. */
+    private final int[] seatBucket;
 
     /**
      * Constructs a new game with the specified number of machine players.
@@ -51,49 +107,369 @@ public class Game {
      * @param machinePlayers the number of machine-controlled players
      */
     public Game(int machinePlayers) {
+        this(machinePlayers, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new reproducible game from a seed.
+     * <p>
+     * Two games created with the same seed and number of players deal the
+     * same cards and shuffle the deck identically.
+     * </p>
+     *
+     * @param machinePlayers the number of machine-controlled players
+     * @param seed           the seed of the game's random generator
+     */
+    public Game(int machinePlayers, long seed) {
+        this(machinePlayers, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a new game that uses the given random generator.
+     * <p>
+     * Every shuffle of the game, including the refills of the deck from the
+     * table, uses this generator. It must not be shared with games running
+     * on other threads.
+     * </p>
+     *
+     * @param machinePlayers the number of machine-controlled players
+     * @param random         the random generator of the game
+     */
+    public Game(int machinePlayers, RandomGenerator random) {
+        this(createPlayers(machinePlayers), random);
+    }
+
+    /**
+     * Constructs a new game with a human player and machine players in the
+     * remaining seats of the given rules.
+     *
+     * @param rules  the rules of the game
+     * @param random the random generator of the game
+     */
+    public Game(RuleSet rules, RandomGenerator random) {
+        this(createPlayers(rules.getSeats() - 1), random, rules);
+    }
+
+    /**
+     * Constructs a new game with the given players, seated in list order.
+     * <p>
+     * Allows games where every seat is a machine, each with its own strategy.
+     * </p>
+     *
+     * @param players the players of the game, with empty hands
+     * @param random  the random generator of the game
+     * @throws IllegalArgumentException if the standard rules do not allow that many players,
+     *                                  or a player already holds cards
+     */
+    public Game(List<? extends IPlayer> players, RandomGenerator random) {
+        this(players, random, RuleSet.STANDARD.withSeats(players.size()));
+    }
+
+    /**
+     * Constructs a new game with the given players and rules.
+     *
+     * @param players the players of the game, with empty hands, one per seat of the rules
+     * @param random  the random generator of the game
+     * @param rules   the rules of the game
+     * @throws IllegalArgumentException if the number of players differs from the seats
+     *                                  of the rules, or a player already holds cards
+     */
+    public Game(List<? extends IPlayer> players, RandomGenerator random, RuleSet rules) {
+        if (players.size() != rules.getSeats()) {
+            throw new IllegalArgumentException("Las reglas son para " + rules.getSeats()
+                    + " jugadores, no para " + players.size() + ".");
+        }
+        for (IPlayer p : players) {
+            if (!p.getHandSet().isEmpty()) {
+                throw new IllegalArgumentException(p.getName() + " ya tiene cartas en la mano.");
+            }
+        }
+        this.random = random;
+        this.rules = rules;
+        this.deck = new DrawPile(Card.values().length * rules.getDecks());
+        this.players.addAll(players);
+        // Nadie puede tener más copias de una carta que barajas en juego,
+        // y solo el juego mueve las cartas de la mesa y de las manos
+        table.setMaxCopies(rules.getDecks());
+        table.lock();
+        for (IPlayer p : players) {
+            p.getHandSet().setMaxCopies(rules.getDecks());
+            p.getHandSet().lock();
+        }
+        this.handValues = new ObservableLong[players.size()];
+        this.handSizeValues = new ObservableInt[players.size()];
+        this.eliminatedValues = new ObservableBoolean[players.size()];
+        this.seatBucket = new int[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            if (seats.put(players.get(i), i) != null) {
+                throw new IllegalArgumentException(players.get(i).getName() + " ocupa dos asientos.");
+            }
+            handValues[i] = new ObservableLong();
+            handSizeValues[i] = new ObservableInt();
+            eliminatedValues[i] = new ObservableBoolean();
+        }
+        this.activeSeats = (1 << players.size()) - 1;
+        createSeatIndex();
         loadDeck();
-        Collections.shuffle(deck);
-        createPlayers(machinePlayers);
+        deck.shuffle(random);
         dealInitialCards();
         initializeTable();
+        publishState();
+    }
+
+    /**
+     * Starts a new round with the same players.
+     * <p>
+     * Collects every card, clears hands, eliminations and the table, then
+     * shuffles with the game's random generator and deals again. This lets
+     * simulations reuse one game instance instead of building a new one for
+     * each round. Card value overrides are kept.
+     * </p>
+     */
+    public void reset() {
+        for (IPlayer p : players) {
+            p.getHandSet().reset();
+            p.setEliminated(false);
+        }
+        eliminatedPlayers.clear();
+        activeSeats = (1 << players.size()) - 1;
+        table.reset();
+        recycleCount = 0;
+        gameOverPublished = false;
+        loadDeck();
+        deck.shuffle(random);
+        dealInitialCards();
+        initializeTable();
+        publishState();
+        for (GameListener l : listeners) l.onStateReplaced(this);
+    }
+
+    /**
+     * Registers a listener for the events of this game.
+     * <p>
+     * The listener array is copied on registration, so publishing an event
+     * only iterates a plain array and allocates nothing, even when there are
+     * no listeners.
+     * </p>
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(GameListener listener) {
+        GameListener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        listeners = copy;
+    }
+
+    /**
+     * Removes a listener of this game.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(GameListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameListener[] copy = new GameListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, copy, 0, i);
+                System.arraycopy(listeners, i + 1, copy, i, copy.length - i);
+                listeners = copy.length == 0 ? NO_LISTENERS : copy;
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Returns the observable sum of the table.
+     *
+     * @return the table sum, updated after every play
+     */
+    public ObservableInt tableSumProperty() {
+        return tableSumValue;
+    }
+
+    /**
+     * Returns the observable card on top of the table.
+     *
+     * @return the top card, updated after every play
+     */
+    public ObservableObject<Card> topCardProperty() {
+        return topCardValue;
+    }
+
+    /**
+     * Returns the observable hand of a seat, as the mask of its {@link CardSet}.
+     * <p>
+     * Reflects the changes made through this game: plays, draws,
+     * eliminations, new rounds and restored snapshots.
+     * </p>
+     *
+     * @param seat the seat index
+     * @return the hand of the seat
+     */
+    public ObservableLong handProperty(int seat) {
+        return handValues[seat];
+    }
+
+    /**
+     * Returns the observable number of cards of a seat.
+     * <p>
+     * With several decks a hand may hold two copies of a card, and drawing
+     * the second copy leaves {@link #handProperty(int)} unchanged; the size
+     * changes with every card that enters or leaves the hand.
+     * </p>
+     *
+     * @param seat the seat index
+     * @return the hand size of the seat
+     */
+    public ObservableInt handSizeProperty(int seat) {
+        return handSizeValues[seat];
+    }
+
+    /**
+     * Returns the observable elimination flag of a seat.
+     *
+     * @param seat the seat index
+     * @return true once the player of the seat is eliminated
+     */
+    public ObservableBoolean eliminatedProperty(int seat) {
+        return eliminatedValues[seat];
+    }
+
+    /**
+     * Updates the observable table sum and top card.
+     */
+    private void publishTable() {
+        tableSumValue.set(tableSum);
+        topCardValue.set(currentTableCard);
+    }
+
+    /**
+     * Updates the observable hand and elimination flag of a player, and
+     * indexes the seat again by its hand.
+     */
+    private void publishSeat(IPlayer player) {
+        Integer seat = seats.get(player);
+        if (seat == null) return;
+        indexSeat(seat);
+        CardSet hand = player.getHandSet();
+        handValues[seat].set(hand.bits());
+        handSizeValues[seat].set(hand.size());
+        eliminatedValues[seat].set(player.isEliminated());
+    }
+
+    /**
+     * Creates an empty index sized for the values of the rules.
+     */
+    private void createSeatIndex() {
+        CardValues values = rules.values();
+        seatsByMinValue = new int[values.maxValue() - values.minValue() + 1];
+        emptySeats = 0;
+        Arrays.fill(seatBucket, -1);
+    }
+
+    /**
+     * Moves a seat to the bucket of the lowest value in its hand, or out of
+     * the index if it is eliminated.
+     */
+    private void indexSeat(int seat) {
+        int bit = 1 << seat;
+        if (seatBucket[seat] >= 0) {
+            seatsByMinValue[seatBucket[seat]] &= ~bit;
+            seatBucket[seat] = -1;
+        }
+        emptySeats &= ~bit;
+        if ((activeSeats & bit) == 0) return;
+
+        long hand = players.get(seat).getHandSet().bits();
+        if (hand == 0) {
+            emptySeats |= bit;
+            return;
+        }
+        CardValues values = rules.values();
+        int bucket = values.minValueOf(hand) - values.minValue();
+        seatsByMinValue[bucket] |= bit;
+        seatBucket[seat] = bucket;
+    }
+
+    /**
+     * Returns the mask of the seats that are not eliminated.
+     *
+     * @return the active seats, one bit per seat index
+     */
+    int activeSeats() {
+        return activeSeats;
+    }
+
+    /**
+     * Returns the mask of the active seats that cannot play on the current table.
+     * <p>
+     * A seat is stuck when even the lowest value in its hand exceeds the room
+     * left under the limit, so only the buckets above the room are read,
+     * whatever the number of seats.
+     * </p>
+     *
+     * @return the stuck seats, one bit per seat index
+     */
+    int stuckSeats() {
+        int room = rules.getLimit() - tableSum;
+        int stuck = emptySeats;
+        for (int i = Math.max(0, room - rules.values().minValue() + 1); i < seatsByMinValue.length; i++) {
+            stuck |= seatsByMinValue[i];
+        }
+        return stuck;
     }
 
+    /**
+     * Updates every observable value after the whole state changed.
+     */
+    private void publishState() {
+        publishTable();
+        for (IPlayer p : players) {
+            publishSeat(p);
+        }
+    }
 
     private void loadDeck() {
         deck.clear();
-        deck.addAll(Arrays.asList(Card.values()));
-
-        for (Card c : deck) {
-            String fileName = c.getFileName();
-            int value = Integer.parseInt(fileName.substring(1, 3));
-            if (value >= 11 && value <= 13) value = -10;
-            values.put(c, value);
+        for (int d = 0; d < rules.getDecks(); d++) {
+            deck.addAll(CardSet.ALL);
         }
     }
 
 
-    private void createPlayers(int machinePlayers) {
+    private static List<IPlayer> createPlayers(int machinePlayers) {
+        List<IPlayer> players = new ArrayList<>();
         players.add(new HumanPlayer("Tú"));
         for (int i = 1; i <= machinePlayers; i++) {
             players.add(new MachinePlayer("Máquina " + i));
         }
+        return players;
     }
 
 
     private void dealInitialCards() {
-        for (int i = 0; i < 4; i++) {
+        for (int i = 0; i < rules.getHandSize(); i++) {
             for (IPlayer p : players) {
-                p.addCard(deck.remove(0));
+                p.getHandSet().insert(deck.draw());
             }
         }
     }
 
     private void initializeTable() {
-        currentTableCard = deck.remove(0);
-        table.add(currentTableCard);
+        currentTableCard = deck.draw();
+        table.insert(currentTableCard);
         tableSum = getCardValue(currentTableCard);
     }
 
+    /**
+     * Returns the rules of this game.
+     *
+     * @return the rules
+     */
+    public RuleSet getRules() {
+        return rules;
+    }
+
     /**
      * Returns the value of a given card.
      *
@@ -101,7 +477,7 @@ public class Game {
      * @return the card's numeric value
      */
     public int getCardValue(Card card) {
-        return values.getOrDefault(card, 0);
+        return rules.values().valueOf(card);
     }
 
     /**
@@ -113,6 +489,37 @@ public class Game {
         return tableSum;
     }
 
+    /**
+     * Returns the mask of the cards that can be played on the current table
+     * without exceeding the limit.
+     *
+     * @return the mask of playable cards
+     */
+    public long playableMask() {
+        return playableMask(tableSum);
+    }
+
+    /**
+     * Returns the mask of the cards that can be played without exceeding the
+     * limit when the table sum is the given one.
+     *
+     * @param sum the table sum
+     * @return the mask of playable cards
+     */
+    public long playableMask(int sum) {
+        return rules.values().playableMask(rules.getLimit() - sum);
+    }
+
+    /**
+     * Returns the cards played on the table since the deck was last refilled,
+     * including the current top card.
+     *
+     * @return the set of table cards
+     */
+    public CardSet getTableCards() {
+        return table;
+    }
+
     /**
      * Returns the current card on top of the table.
      *
@@ -137,60 +544,120 @@ public class Game {
      * @param player the player playing the card
      * @param card   the card to play
      * @return true if the play was successful
-     * @throws InvalidCardPlayException if the play exceeds the table limit
+     * @throws InvalidCardPlayException if the player does not hold the card or the play exceeds the table limit
      */
     public boolean playCard(IPlayer player, Card card) throws InvalidCardPlayException {
-        int cardValue = getCardValue(card);
-        if (tableSum + cardValue > 50) {
-            throw new InvalidCardPlayException("La carta supera el límite de 50.");
+        return playCard(player, card, getCardValue(card));
+    }
+
+    /**
+     * Plays a card for a player using the given value.
+     * <p>
+     * Used to play an Ace with the value chosen by the player. The choice only
+     * affects this play; the value table of the game is not modified.
+     * </p>
+     *
+     * @param player    the player playing the card
+     * @param card      the card to play
+     * @param cardValue the value the card adds to the table
+     * @return true if the play was successful
+     * @throws InvalidCardPlayException if the player does not hold the card or the play exceeds the table limit
+     * @throws IllegalArgumentException if the value is neither the card's own value
+     *                                  nor, for an Ace, one of the Ace values of the rules
+     */
+    public boolean playCard(IPlayer player, Card card, int cardValue) throws InvalidCardPlayException {
+        boolean aceChoice = card.isAce() && (cardValue == rules.getAceLow() || cardValue == rules.getAceHigh());
+        if (!aceChoice && cardValue != getCardValue(card)) {
+            throw new IllegalArgumentException("Valor inválido para " + card + ": " + cardValue);
+        }
+        if (!player.getHandSet().contains(card)) {
+            throw new InvalidCardPlayException(player.getName() + " no tiene la carta " + card + ".");
+        }
+        if (tableSum + cardValue > rules.getLimit()) {
+            throw new InvalidCardPlayException("La carta supera el límite de " + rules.getLimit() + ".");
         }
         tableSum += cardValue;
         currentTableCard = card;
-        table.add(card);
-        player.removeCard(card);
+        table.insert(card);
+        player.getHandSet().delete(card);
+        publishTable();
+        publishSeat(player);
+        for (GameListener l : listeners) l.onCardPlayed(this, player, card, cardValue, tableSum);
         return true;
     }
 
+    /**
+     * Plays a move for a player.
+     * <p>
+     * Aces are played with the high value of the rules when the move says
+     * so; any other card, and a low Ace, is played with its value in this game.
+     * </p>
+     *
+     * @param player the player playing the move
+     * @param move   the move to play
+     * @return true if the play was successful
+     * @throws InvalidCardPlayException if the player does not hold the card or the play exceeds the table limit
+     */
+    public boolean playMove(IPlayer player, Move move) throws InvalidCardPlayException {
+        return playCard(player, move.getCard(), move.getValue(rules));
+    }
+
+    /**
+     * Checks if a move is legal for a player in the current state.
+     *
+     * @param player the player
+     * @param move   the move to check
+     * @return true if the player holds the card and it does not exceed the table limit
+     */
+    public boolean isLegal(IPlayer player, Move move) {
+        return player.getHandSet().contains(move.getCard()) && tableSum + move.getValue(rules) <= rules.getLimit();
+    }
+
     /**
      * Draws a card from the deck for the specified player.
      * <p>
-     * If the deck is empty, it refills from the table except the last card.
+     * If the deck is empty, it refills from the table except the last card,
+     * copies included. The table cards are written back into the draw pile
+     * and shuffled in place.
      * </p>
      *
      * @param player the player drawing a card
      * @throws DeckEmptyException if the deck cannot be replenished
      */
     public void drawCard(IPlayer player) {
-        if (player.getHand().size() >= 4) return;
+        if (player.getHandSet().size() >= rules.getHandSize()) return;
 
         if (deck.isEmpty()) {
-            if (table.size() <= 1) {
+            // Tomar todas las cartas de la mesa excepto la última
+            table.delete(currentTableCard);
+            int recycled = table.size();
+            if (recycled == 0) {
+                table.insert(currentTableCard);
                 throw new DeckEmptyException("No hay cartas suficientes para recargar el mazo.");
             }
-            // Tomar todas las cartas de la mesa excepto la última
-            List<Card> newDeck = new ArrayList<>(table.subList(0, table.size() - 1));
+            deck.addAll(table);
+            deck.shuffle(random);
+            recycleCount++;
             // Mantener solo la última carta en la mesa
-            table.retainAll(Collections.singletonList(currentTableCard));
-            Collections.shuffle(newDeck);
-            deck.addAll(newDeck);
+            table.replace(CardSet.bit(currentTableCard));
+            for (GameListener l : listeners) l.onDeckRecycled(this, recycled);
         }
 
         // Robar la carta superior
-        Card drawn = deck.remove(0);
-        player.addCard(drawn);
+        Card drawn = deck.draw();
+        player.getHandSet().insert(drawn);
+        publishSeat(player);
+        for (GameListener l : listeners) l.onCardDrawn(this, player, drawn);
     }
 
     /**
      * Determines whether a player must be eliminated.
      *
      * @param player the player to check
-     * @return true if the player cannot play any card without exceeding 50
+     * @return true if the player cannot play any card without exceeding the limit
      */
     public boolean mustBeEliminated(IPlayer player) {
-        for (Card c : player.getHand()) {
-            if (tableSum + getCardValue(c) <= 50) return false;
-        }
-        return true;
+        return !player.getHandSet().intersects(playableMask());
     }
 
     /**
@@ -204,14 +671,19 @@ public class Game {
      */
     public void eliminatePlayer(IPlayer player) {
         // Mover cartas al mazo
-        deck.addAll(player.getHand());
-        player.getHand().clear();
+        CardSet hand = player.getHandSet();
+        deck.addAll(hand);
+        hand.reset();
 
         // Marcar como eliminado
         player.setEliminated(true);
+        Integer seat = seats.get(player);
+        if (seat != null) activeSeats &= ~(1 << seat);
 
         // Guardar en la estructura Set de eliminados
         eliminatedPlayers.add(player);
+        publishSeat(player);
+        for (GameListener l : listeners) l.onPlayerEliminated(this, player);
     }
 
     /**
@@ -223,28 +695,158 @@ public class Game {
         return eliminatedPlayers.getAll();
     }
 
+    /**
+     * Returns the eliminated players in the order they were eliminated.
+     *
+     * @return a read-only list of eliminated players, first eliminated first
+     */
+    public List<IPlayer> getEliminationOrder() {
+        return eliminatedPlayers.asList();
+    }
+
+    /**
+     * Returns how many times the deck has been refilled from the table.
+     *
+     * @return the number of deck refills
+     */
+    public int getRecycleCount() {
+        return recycleCount;
+    }
+
     /**
      * Checks if the game is over.
      *
      * @return true if only one or no players remain active
      */
     public boolean isGameOver() {
-        long activeCount = players.stream()
-                .filter(p -> !p.isEliminated())
-                .count();
-        return activeCount <= 1;
+        return Integer.bitCount(activeSeats) <= 1;
+    }
+
+    /**
+     * Checks if the game is over and notifies the listeners the first time it is.
+     * <p>
+     * Called at the end of each turn, once all the eliminations of the turn
+     * are applied, so that the winner is known when the event is published.
+     * </p>
+     *
+     * @return true if the game is over
+     */
+    public boolean checkGameOver() {
+        if (!isGameOver()) return false;
+        if (!gameOverPublished) {
+            gameOverPublished = true;
+            IPlayer winner = getWinner();
+            for (GameListener l : listeners) l.onGameOver(this, winner);
+        }
+        return true;
+    }
+
+    /**
+     * Notifies the listeners that a turn ended.
+     *
+     * @param player the player whose turn ended
+     * @param turn   the number of turns completed so far
+     */
+    void publishTurnEnded(IPlayer player, int turn) {
+        for (GameListener l : listeners) l.onTurnEnded(this, player, turn);
     }
 
     /**
      * Returns the winner of the game.
      *
-     * @return the remaining active player, or null if none
+     * @return the first active player, or null if none
      */
     public IPlayer getWinner() {
-        return players.stream()
-                .filter(p -> !p.isEliminated())
-                .findFirst()
-                .orElse(null);
+        return activeSeats == 0 ? null : players.get(Integer.numberOfTrailingZeros(activeSeats));
+    }
+
+    /**
+     * Takes a snapshot of the current state of the game.
+     *
+     * @return a new snapshot of the game
+     * @see #snapshot(GameSnapshot)
+     */
+    public GameSnapshot snapshot() {
+        return snapshot(new GameSnapshot(players.size(), rules.getDecks()));
+    }
+
+    /**
+     * Writes the current state of the game into an existing snapshot.
+     * <p>
+     * Reusing the same snapshot avoids any allocation, so search algorithms
+     * can save and restore the game once per simulated move.
+     * </p>
+     *
+     * @param into the snapshot to overwrite
+     * @return the given snapshot
+     * @throws IllegalArgumentException if the snapshot is for a different number of players or decks
+     */
+    public GameSnapshot snapshot(GameSnapshot into) {
+        into.checkShape(players.size(), rules.getDecks());
+        into.deckSize = deck.copyTo(into.deck);
+        into.table = table.bits();
+        for (int i = 0; i < players.size(); i++) {
+            into.hands[i] = players.get(i).getHandSet().bits();
+        }
+        for (int copy = 1; copy < rules.getDecks(); copy++) {
+            int base = into.copyBase(copy);
+            into.copies[base] = table.bits(copy);
+            for (int i = 0; i < players.size(); i++) {
+                into.copies[base + 1 + i] = players.get(i).getHandSet().bits(copy);
+            }
+        }
+        into.tableSum = tableSum;
+        into.topCard = currentTableCard == null ? -1 : currentTableCard.ordinal();
+        List<IPlayer> order = eliminatedPlayers.asList();
+        for (int i = 0; i < order.size(); i++) {
+            into.eliminationOrder[i] = (byte) (int) seats.get(order.get(i));
+        }
+        into.eliminatedCount = order.size();
+        into.recycleCount = recycleCount;
+        return into;
+    }
+
+    /**
+     * Restores the state of the game from a snapshot.
+     * <p>
+     * Hands, deck, table, eliminations and counters are replaced by the ones
+     * in the snapshot. The players keep their identity; only their cards and
+     * elimination flags change.
+     * </p>
+     *
+     * @param snapshot the snapshot to restore
+     * @throws IllegalArgumentException if the snapshot is for a different number of players or decks
+     */
+    public void restore(GameSnapshot snapshot) {
+        snapshot.checkShape(players.size(), rules.getDecks());
+        deck.load(snapshot.deck, snapshot.deckSize);
+        table.replace(snapshot.table);
+        for (int i = 0; i < players.size(); i++) {
+            IPlayer p = players.get(i);
+            p.getHandSet().replace(snapshot.hands[i]);
+            p.setEliminated(false);
+        }
+        for (int copy = 1; copy < rules.getDecks(); copy++) {
+            int base = snapshot.copyBase(copy);
+            table.replace(copy, snapshot.copies[base]);
+            for (int i = 0; i < players.size(); i++) {
+                players.get(i).getHandSet().replace(copy, snapshot.copies[base + 1 + i]);
+            }
+        }
+        eliminatedPlayers.clear();
+        activeSeats = (1 << players.size()) - 1;
+        for (int i = 0; i < snapshot.eliminatedCount; i++) {
+            IPlayer p = players.get(snapshot.eliminationOrder[i]);
+            p.setEliminated(true);
+            eliminatedPlayers.add(p);
+            activeSeats &= ~(1 << snapshot.eliminationOrder[i]);
+        }
+        tableSum = snapshot.tableSum;
+        currentTableCard = snapshot.topCard < 0 ? null : Card.fromOrdinal(snapshot.topCard);
+        recycleCount = snapshot.recycleCount;
+        gameOverPublished = isGameOver();
+        publishState();
+        for (GameListener l : listeners) l.onStateReplaced(this);
     }
 
     // ---------------------------
@@ -255,10 +857,25 @@ public class Game {
 
     public void setTableSum(int sum) {
         this.tableSum = sum;
+        publishTable();
+    }
+
+    // Reemplaza la mano de un jugador; las cartas que salen no vuelven al mazo
+    public void setHand(IPlayer player, Card... cards) {
+        CardSet hand = player.getHandSet();
+        hand.reset();
+        for (Card card : cards) {
+            hand.insert(card);
+        }
+        publishSeat(player);
     }
 
     public void setCardValue(Card card, int value) {
-        values.put(card, value);
+        rules = rules.withCardValue(card, value);
+        createSeatIndex();
+        for (IPlayer p : players) {
+            publishSeat(p);
+        }
     }
 
 }
@@ -0,0 +1,278 @@
+package edu.univalle.cincuentazo.model;
+
+import edu.univalle.cincuentazo.exceptions.InvalidCardPlayException;
+import edu.univalle.cincuentazo.model.strategy.Strategy;
+
+import java.util.List;
+
+/**
+ * Headless turn engine for a game of Cincuentazo.
+ * <p>
+ * Drives a {@link Game} from the initial deal to its winner without any
+ * dependency on the GUI. The engine keeps track of whose turn it is and
+ * runs the play / draw / eliminate cycle for automated seats, so it can be
+ * used both by simulations and as the backbone of the graphical controller.
+ * </p>
+ *
+ * <p>
+ * Seats that are not machines (the human seat) are played with the same
+ * rule as the machines when the engine is asked to play them automatically,
+ * which allows complete games to run without user input.
+ * </p>
+ *
+ * @see Game
+ * @see MachinePlayer
+ * @since 1.0
+ */
+public class GameEngine {
+
+    /** The game driven by this engine. */
+    private final Game game;
+
+    /** Index of the player whose turn it is. */
+    private int currentIndex;
+
+    /** Number of turns completed so far. */
+    private int turnCount;
+
+    /**
+     * Constructs a new engine for the given game.
+     * <p>
+     * The first turn belongs to the first player of the game.
+     * </p>
+     *
+     * @param game the game to drive
+     */
+    public GameEngine(Game game) {
+        this.game = game;
+        this.currentIndex = 0;
+    }
+
+    /**
+     * Starts a new round of the game from the first player.
+     *
+     * @see Game#reset()
+     */
+    public void reset() {
+        game.reset();
+        currentIndex = 0;
+        turnCount = 0;
+    }
+
+    /**
+     * Takes a snapshot of the game together with the turn cursor.
+     *
+     * @return a new snapshot of the game and the current turn
+     */
+    public GameSnapshot snapshot() {
+        return snapshot(new GameSnapshot(game.getPlayers().size(), game.getRules().getDecks()));
+    }
+
+    /**
+     * Writes the state of the game and the turn cursor into an existing snapshot.
+     *
+     * @param into the snapshot to overwrite
+     * @return the given snapshot
+     * @see Game#snapshot(GameSnapshot)
+     */
+    public GameSnapshot snapshot(GameSnapshot into) {
+        game.snapshot(into);
+        into.currentSeat = currentIndex;
+        into.turnCount = turnCount;
+        return into;
+    }
+
+    /**
+     * Restores the game and the turn cursor from a snapshot.
+     *
+     * @param snapshot the snapshot to restore
+     * @see Game#restore(GameSnapshot)
+     */
+    public void restore(GameSnapshot snapshot) {
+        game.restore(snapshot);
+        currentIndex = snapshot.currentSeat;
+        turnCount = snapshot.turnCount;
+    }
+
+    /**
+     * Returns the game driven by this engine.
+     *
+     * @return the game instance
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Returns the player whose turn it is.
+     *
+     * @return the current player
+     */
+    public IPlayer getCurrentPlayer() {
+        return game.getPlayers().get(currentIndex);
+    }
+
+    /**
+     * Returns the number of turns completed so far.
+     *
+     * @return the turn count
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Checks if the game driven by this engine is over.
+     *
+     * @return true if only one or no players remain active
+     */
+    public boolean isGameOver() {
+        return game.isGameOver();
+    }
+
+    /**
+     * Chooses the move the given player would play automatically.
+     * <p>
+     * Machine players decide with their own strategy; any other seat uses
+     * {@link Strategy#FIRST_PLAYABLE}.
+     * </p>
+     *
+     * @param player the player to choose for
+     * @return the chosen move, or null if no card can be played
+     */
+    public Move chooseMove(IPlayer player) {
+        if (player instanceof MachinePlayer machine) {
+            return machine.chooseMove(game);
+        }
+        return Strategy.FIRST_PLAYABLE.chooseMove(game, player, Long.MAX_VALUE);
+    }
+
+    /**
+     * Plays the current player's move automatically without ending the turn.
+     * <p>
+     * The chosen move is played and a card is drawn from the deck. If the
+     * player cannot play any card nothing happens.
+     * </p>
+     *
+     * @return the move played, or null if the player passed
+     */
+    public Move playMove() {
+        return playMove(chooseMove(getCurrentPlayer()));
+    }
+
+    /**
+     * Plays the given move for the current player without ending the turn.
+     * <p>
+     * The card is played and a card is drawn from the deck. A null move
+     * passes.
+     * </p>
+     *
+     * @param move the move to play, or null to pass
+     * @return the move played
+     * @throws IllegalArgumentException if the move is not legal for the current player
+     */
+    public Move playMove(Move move) {
+        if (move != null) {
+            IPlayer player = getCurrentPlayer();
+            try {
+                game.playMove(player, move);
+            } catch (InvalidCardPlayException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+            game.drawCard(player);
+        }
+        return move;
+    }
+
+    /**
+     * Plays the current player's turn automatically and ends it.
+     *
+     * @return the move played, or null if the player passed
+     * @see #playMove()
+     * @see #endTurn()
+     */
+    public Move playTurn() {
+        Move chosen = playMove();
+        endTurn();
+        return chosen;
+    }
+
+    /**
+     * Ends the current turn.
+     * <p>
+     * Eliminates every player who can no longer play, moves the turn to the
+     * next player that is still active, and publishes the end of the turn
+     * (and the end of the game, if it is over) to the game listeners. The
+     * turn cursor is already advanced when the listeners are called, so a
+     * snapshot taken from a listener resumes at the next turn.
+     * </p>
+     */
+    public void endTurn() {
+        checkEliminations();
+        IPlayer ended = getCurrentPlayer();
+        turnCount++;
+        advance();
+        game.publishTurnEnded(ended, turnCount);
+        game.checkGameOver();
+    }
+
+    /**
+     * Eliminates every player who cannot play a valid card.
+     * <p>
+     * The game keeps its active seats indexed by the lowest value in their
+     * hands, so only the seats that are stuck are visited, instead of every
+     * player of the table.
+     * </p>
+     *
+     * @return the number of players eliminated by this check
+     */
+    public int checkEliminations() {
+        int count = 0;
+        List<IPlayer> players = game.getPlayers();
+        for (int stuck = game.stuckSeats(); stuck != 0; stuck &= stuck - 1) {
+            game.eliminatePlayer(players.get(Integer.numberOfTrailingZeros(stuck)));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Eliminates the given player if they cannot play any card.
+     *
+     * @param player the player to check
+     * @return true if the player was eliminated by this call
+     */
+    public boolean eliminateIfStuck(IPlayer player) {
+        if (!player.isEliminated() && game.mustBeEliminated(player)) {
+            game.eliminatePlayer(player);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Plays automatically until the game is over.
+     *
+     * @return the winner of the game, or null if none
+     */
+    public IPlayer playToEnd() {
+        while (!game.isGameOver()) {
+            playTurn();
+        }
+        return game.getWinner();
+    }
+
+    /**
+     * Moves the turn to the next player that is not eliminated.
+     * <p>
+     * The next seat is read from the mask of active seats: the lowest active
+     * seat after the current one or, wrapping around, the lowest of all.
+     * </p>
+     */
+    private void advance() {
+        int active = game.activeSeats();
+        if (active == 0) return;
+        int after = active & (-2 << currentIndex);
+        currentIndex = Integer.numberOfTrailingZeros(after != 0 ? after : active);
+    }
+}
@@ -0,0 +1,89 @@
+package edu.univalle.cincuentazo.model;
+
+/**
+ * Receives the events of a {@link Game}.
+ * <p>
+ * Every method has an empty default implementation, so listeners only
+ * override the events they care about. Events are delivered synchronously,
+ * on the thread that changed the game, right after the change; listeners
+ * must not modify the game from inside a callback.
+ * </p>
+ *
+ * <p>
+ * Events are plain method calls with their data as arguments, so publishing
+ * them creates no objects.
+ * </p>
+ *
+ * @see Game#addListener(GameListener)
+ * @since 1.0
+ */
+public interface GameListener {
+
+    /**
+     * Called after a card is played on the table.
+     *
+     * @param game     the game
+     * @param player   the player who played the card
+     * @param card     the card played
+     * @param value    the value the card added to the table; for an Ace, the chosen value
+     * @param tableSum the table sum after the play
+     */
+    default void onCardPlayed(Game game, IPlayer player, Card card, int value, int tableSum) {
+    }
+
+    /**
+     * Called after a player draws a card from the deck.
+     *
+     * @param game   the game
+     * @param player the player who drew
+     * @param card   the card drawn
+     */
+    default void onCardDrawn(Game game, IPlayer player, Card card) {
+    }
+
+    /**
+     * Called after the deck is refilled with the table cards.
+     *
+     * @param game  the game
+     * @param cards the number of cards moved from the table to the deck
+     */
+    default void onDeckRecycled(Game game, int cards) {
+    }
+
+    /**
+     * Called after a player is eliminated.
+     *
+     * @param game   the game
+     * @param player the eliminated player
+     */
+    default void onPlayerEliminated(Game game, IPlayer player) {
+    }
+
+    /**
+     * Called after a turn ends and the eliminations of the turn are applied.
+     *
+     * @param game   the game
+     * @param player the player whose turn ended
+     * @param turn   the number of turns completed so far
+     */
+    default void onTurnEnded(Game game, IPlayer player, int turn) {
+    }
+
+    /**
+     * Called once when the game is found to be over.
+     *
+     * @param game   the game
+     * @param winner the remaining player, or null if the last players were eliminated together
+     */
+    default void onGameOver(Game game, IPlayer winner) {
+    }
+
+    /**
+     * Called after the whole state of the game is replaced, by a new round or
+     * by restoring a snapshot. Listeners should read the state again.
+     *
+     * @param game the game
+     */
+    default void onStateReplaced(Game game) {
+    }
+}
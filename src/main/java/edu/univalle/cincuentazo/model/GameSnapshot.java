@@ -0,0 +1,463 @@
+package edu.univalle.cincuentazo.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact copy of the state of a {@link Game}.
+ * <p>
+ * The whole state of a round is stored in a few primitive fields: the order
+ * of the draw pile as card ordinals, the table and every hand as 64-bit
+ * {@link CardSet} masks, the table sum, the top card, the elimination order
+ * as seat indexes and the number of deck refills. When taken from a
+ * {@link GameEngine}, the snapshot also records whose turn it is and the
+ * number of turns played. Games with several decks also store the masks of
+ * the further copies of the table and the hands (see {@link CardSet#bits(int)}).
+ * </p>
+ *
+ * <p>
+ * Taking a snapshot into an existing instance and restoring it allocate no
+ * objects, so search algorithms, undo and autosave can copy the game as often
+ * as they need. Card value overrides and the state of the random generator
+ * belong to the game instance and are not part of the snapshot. The
+ * {@link #writeTo(ByteBuffer)} and {@link #readFrom(ByteBuffer)} methods
+ * give a binary encoding of at most {@value #MAX_ENCODED_SIZE} bytes for
+ * single-deck games.
+ * </p>
+ *
+ * @see Game#snapshot()
+ * @see Game#restore(GameSnapshot)
+ * @see GameEngine#snapshot()
+ * @since 1.0
+ */
+public final class GameSnapshot {
+
+    /** Maximum number of bytes written by {@link #writeTo(ByteBuffer)}. */
+    public static final int MAX_ENCODED_SIZE =
+            2 + 52 + 8 + RuleSet.MAX_SEATS * 8 + 4 + 1 + 1 + RuleSet.MAX_SEATS + 4 + 1 + 4;
+
+    /** Card ordinals of the draw pile, from top to bottom. */
+    final byte[] deck;
+
+    /** Number of cards in the draw pile. */
+    int deckSize;
+
+    /** Mask of the cards on the table. */
+    long table;
+
+    /** Mask of the hand of each seat. */
+    final long[] hands;
+
+    /**
+     * Masks of the further copies, for each copy index from 1: the table
+     * followed by every hand, starting at {@link #copyBase(int)}.
+     */
+    final long[] copies;
+
+    /** Current sum of the table. */
+    int tableSum;
+
+    /** Ordinal of the card on top of the table, or -1 if none. */
+    int topCard;
+
+    /** Seat indexes of the eliminated players, in elimination order. */
+    final byte[] eliminationOrder;
+
+    /** Number of eliminated players. */
+    int eliminatedCount;
+
+    /** Number of deck refills. */
+    int recycleCount;
+
+    /** Seat whose turn it is, as recorded by the engine. */
+    int currentSeat;
+
+    /** Number of turns played, as recorded by the engine. */
+    int turnCount;
+
+    /**
+     * Constructs an empty snapshot for a single-deck game with the given number of seats.
+     *
+     * @param seats the number of players of the game
+     */
+    public GameSnapshot(int seats) {
+        this(seats, 1);
+    }
+
+    /**
+     * Constructs an empty snapshot for a game with the given number of seats and decks.
+     *
+     * @param seats the number of players of the game
+     * @param decks the number of decks of the game
+     */
+    public GameSnapshot(int seats, int decks) {
+        this.deck = new byte[Card.values().length * decks];
+        this.hands = new long[seats];
+        this.copies = new long[(decks - 1) * (seats + 1)];
+        this.eliminationOrder = new byte[seats];
+        this.topCard = -1;
+    }
+
+    /**
+     * Returns the number of seats of the snapshot.
+     *
+     * @return the number of players
+     */
+    public int getSeats() {
+        return hands.length;
+    }
+
+    /**
+     * Returns the number of decks of the snapshot.
+     *
+     * @return the number of decks
+     */
+    public int getDecks() {
+        return copies.length / (hands.length + 1) + 1;
+    }
+
+    /**
+     * Returns the position in {@link #copies} of the table mask of a copy index.
+     */
+    int copyBase(int copy) {
+        return (copy - 1) * (hands.length + 1);
+    }
+
+    /**
+     * Returns the number of cards in the draw pile.
+     *
+     * @return the deck size
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Returns the card at the given position of the draw pile.
+     *
+     * @param index the position, 0 being the top card
+     * @return the card at that position
+     */
+    public Card getDeckCard(int index) {
+        if (index < 0 || index >= deckSize) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fuera de rango.");
+        }
+        return Card.fromOrdinal(deck[index]);
+    }
+
+    /**
+     * Returns the mask of the cards on the table.
+     *
+     * @return the table mask
+     */
+    public long getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the mask of the hand of the given seat.
+     *
+     * @param seat the seat index
+     * @return the hand mask
+     */
+    public long getHand(int seat) {
+        return hands[seat];
+    }
+
+    /**
+     * Returns the mask of the cards the hand of a seat holds more than the
+     * given number of times.
+     *
+     * @param seat the seat index
+     * @param copy the copy index, 0 being the first copy of each card
+     * @return the hand mask of that copy
+     * @see CardSet#bits(int)
+     */
+    public long getHand(int seat, int copy) {
+        return copy == 0 ? hands[seat] : copies[copyBase(copy) + 1 + seat];
+    }
+
+    /**
+     * Returns the sum of the table.
+     *
+     * @return the table sum
+     */
+    public int getTableSum() {
+        return tableSum;
+    }
+
+    /**
+     * Returns the card on top of the table.
+     *
+     * @return the top card, or null if none
+     */
+    public Card getTopCard() {
+        return topCard < 0 ? null : Card.fromOrdinal(topCard);
+    }
+
+    /**
+     * Returns the number of eliminated players.
+     *
+     * @return the number of eliminated players
+     */
+    public int getEliminatedCount() {
+        return eliminatedCount;
+    }
+
+    /**
+     * Returns the seat eliminated at the given position.
+     *
+     * @param order the position in the elimination order, 0 being the first eliminated
+     * @return the seat index
+     */
+    public int getEliminatedSeat(int order) {
+        if (order < 0 || order >= eliminatedCount) {
+            throw new IndexOutOfBoundsException("Índice " + order + " fuera de rango.");
+        }
+        return eliminationOrder[order];
+    }
+
+    /**
+     * Returns the number of deck refills.
+     *
+     * @return the recycle count
+     */
+    public int getRecycleCount() {
+        return recycleCount;
+    }
+
+    /**
+     * Returns the seat whose turn it is.
+     *
+     * @return the current seat, or 0 if the snapshot was not taken by an engine
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Returns the number of turns played.
+     *
+     * @return the turn count, or 0 if the snapshot was not taken by an engine
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Copies the content of another snapshot of the same size into this one.
+     *
+     * @param other the snapshot to copy
+     * @throws IllegalArgumentException if the snapshots have a different number of seats
+     */
+    public void copyFrom(GameSnapshot other) {
+        checkShape(other.getSeats(), other.getDecks());
+        System.arraycopy(other.deck, 0, deck, 0, other.deckSize);
+        deckSize = other.deckSize;
+        table = other.table;
+        System.arraycopy(other.hands, 0, hands, 0, hands.length);
+        System.arraycopy(other.copies, 0, copies, 0, copies.length);
+        tableSum = other.tableSum;
+        topCard = other.topCard;
+        System.arraycopy(other.eliminationOrder, 0, eliminationOrder, 0, other.eliminatedCount);
+        eliminatedCount = other.eliminatedCount;
+        recycleCount = other.recycleCount;
+        currentSeat = other.currentSeat;
+        turnCount = other.turnCount;
+    }
+
+    /**
+     * Writes the binary encoding of this snapshot into the buffer.
+     *
+     * @param buffer the destination buffer, with at least {@link #encodedSize()} bytes remaining
+     * @throws IllegalStateException if the snapshot is of a game with several decks
+     */
+    public void writeTo(ByteBuffer buffer) {
+        if (copies.length > 0) {
+            throw new IllegalStateException("Solo se codifican instantáneas de partidas con una baraja.");
+        }
+        buffer.put((byte) hands.length);
+        buffer.put((byte) deckSize);
+        buffer.put(deck, 0, deckSize);
+        buffer.putLong(table);
+        for (long hand : hands) {
+            buffer.putLong(hand);
+        }
+        buffer.putInt(tableSum);
+        buffer.put((byte) topCard);
+        buffer.put((byte) eliminatedCount);
+        buffer.put(eliminationOrder, 0, eliminatedCount);
+        buffer.putInt(recycleCount);
+        buffer.put((byte) currentSeat);
+        buffer.putInt(turnCount);
+    }
+
+    /**
+     * Reads a snapshot from its binary encoding.
+     * <p>
+     * Every field is checked before the snapshot is returned, so a corrupt
+     * encoding is rejected here and never reaches {@link Game#restore(GameSnapshot)}:
+     * card ordinals must name a card, masks may only hold card bits, no card
+     * may be in two places, the top card must be on the table, and seat
+     * indexes must be in range, with no seat eliminated twice.
+     * </p>
+     *
+     * @param buffer the source buffer, positioned at the start of the encoding
+     * @return the decoded snapshot
+     * @throws IllegalArgumentException if the encoding is not valid
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the encoding
+     */
+    public static GameSnapshot readFrom(ByteBuffer buffer) {
+        int seats = buffer.get();
+        if (seats < RuleSet.MIN_SEATS || seats > RuleSet.MAX_SEATS) {
+            throw new IllegalArgumentException("Número de jugadores inválido: " + seats);
+        }
+        GameSnapshot s = new GameSnapshot(seats);
+        s.deckSize = buffer.get();
+        if (s.deckSize < 0 || s.deckSize > s.deck.length) {
+            throw new IllegalArgumentException("Tamaño de mazo inválido: " + s.deckSize);
+        }
+        buffer.get(s.deck, 0, s.deckSize);
+        // Con una sola baraja cada carta está en un único lugar
+        long seen = 0;
+        for (int i = 0; i < s.deckSize; i++) {
+            int ordinal = s.deck[i];
+            if (ordinal < 0 || ordinal >= Card.values().length) {
+                throw new IllegalArgumentException("Carta inválida en el mazo: " + ordinal);
+            }
+            seen = claim(seen, 1L << ordinal);
+        }
+        s.table = checkMask(buffer.getLong());
+        seen = claim(seen, s.table);
+        for (int i = 0; i < seats; i++) {
+            s.hands[i] = checkMask(buffer.getLong());
+            seen = claim(seen, s.hands[i]);
+        }
+        s.tableSum = buffer.getInt();
+        s.topCard = buffer.get();
+        if (s.topCard < -1 || s.topCard >= Card.values().length
+                || s.topCard >= 0 && (s.table & (1L << s.topCard)) == 0) {
+            throw new IllegalArgumentException("Carta superior inválida: " + s.topCard);
+        }
+        s.eliminatedCount = buffer.get();
+        if (s.eliminatedCount < 0 || s.eliminatedCount > seats) {
+            throw new IllegalArgumentException("Número de eliminados inválido: " + s.eliminatedCount);
+        }
+        buffer.get(s.eliminationOrder, 0, s.eliminatedCount);
+        int eliminated = 0;
+        for (int i = 0; i < s.eliminatedCount; i++) {
+            int seat = s.eliminationOrder[i];
+            if (seat < 0 || seat >= seats || (eliminated & (1 << seat)) != 0) {
+                throw new IllegalArgumentException("Asiento eliminado inválido: " + seat);
+            }
+            eliminated |= 1 << seat;
+        }
+        s.recycleCount = buffer.getInt();
+        if (s.recycleCount < 0) {
+            throw new IllegalArgumentException("Número de recargas inválido: " + s.recycleCount);
+        }
+        s.currentSeat = buffer.get();
+        if (s.currentSeat < 0 || s.currentSeat >= seats) {
+            throw new IllegalArgumentException("Turno inválido: " + s.currentSeat);
+        }
+        s.turnCount = buffer.getInt();
+        if (s.turnCount < 0) {
+            throw new IllegalArgumentException("Número de turnos inválido: " + s.turnCount);
+        }
+        return s;
+    }
+
+    /**
+     * Checks that a decoded mask only holds card bits.
+     */
+    private static long checkMask(long mask) {
+        if ((mask & ~CardSet.ALL) != 0) {
+            throw new IllegalArgumentException("Máscara de cartas inválida: " + Long.toHexString(mask));
+        }
+        return mask;
+    }
+
+    /**
+     * Adds the cards of a mask to the cards already seen, rejecting repeated cards.
+     */
+    private static long claim(long seen, long mask) {
+        if ((seen & mask) != 0) {
+            throw new IllegalArgumentException("Carta repetida: " + CardSet.first(seen & mask));
+        }
+        return seen | mask;
+    }
+
+    /**
+     * Returns the number of bytes written by {@link #writeTo(ByteBuffer)}.
+     *
+     * @return the encoded size
+     */
+    public int encodedSize() {
+        return 2 + deckSize + 8 + 8 * hands.length + 4 + 1 + 1 + eliminatedCount + 4 + 1 + 4;
+    }
+
+    /**
+     * Checks that this snapshot has the given number of seats and decks.
+     *
+     * @param seats the expected number of seats
+     * @param decks the expected number of decks
+     * @throws IllegalArgumentException if the number of seats or decks differs
+     */
+    void checkShape(int seats, int decks) {
+        if (seats != hands.length) {
+            throw new IllegalArgumentException("La instantánea es de " + hands.length
+                    + " jugadores, no de " + seats + ".");
+        }
+        if (decks != getDecks()) {
+            throw new IllegalArgumentException("La instantánea es de " + getDecks()
+                    + " barajas, no de " + decks + ".");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GameSnapshot other)) return false;
+        return deckSize == other.deckSize
+                && table == other.table
+                && tableSum == other.tableSum
+                && topCard == other.topCard
+                && eliminatedCount == other.eliminatedCount
+                && recycleCount == other.recycleCount
+                && currentSeat == other.currentSeat
+                && turnCount == other.turnCount
+                && Arrays.equals(hands, other.hands)
+                && Arrays.equals(copies, other.copies)
+                && Arrays.equals(deck, 0, deckSize, other.deck, 0, deckSize)
+                && Arrays.equals(eliminationOrder, 0, eliminatedCount,
+                        other.eliminationOrder, 0, eliminatedCount);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = Long.hashCode(table);
+        h = 31 * h + Arrays.hashCode(hands);
+        h = 31 * h + Arrays.hashCode(copies);
+        h = 31 * h + tableSum;
+        h = 31 * h + topCard;
+        h = 31 * h + deckSize;
+        for (int i = 0; i < deckSize; i++) {
+            h = 31 * h + deck[i];
+        }
+        h = 31 * h + eliminatedCount;
+        h = 31 * h + recycleCount;
+        h = 31 * h + currentSeat;
+        return 31 * h + turnCount;
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot{jugadores=" + hands.length
+                + ", mazo=" + deckSize
+                + ", mesa=" + Long.bitCount(table)
+                + ", suma=" + tableSum
+                + ", arriba=" + getTopCard()
+                + ", eliminados=" + eliminatedCount
+                + ", turno=" + turnCount + "}";
+    }
+}
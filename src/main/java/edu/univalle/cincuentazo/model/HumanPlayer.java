@@ -1,5 +1,7 @@
 package edu.univalle.cincuentazo.model;
 
+import edu.univalle.cincuentazo.log.GameLog;
+
 /**
  * Represents a human player in the Cincuentazo game.
  * <p>
@@ -36,6 +38,6 @@ public class HumanPlayer extends AbstractPlayer {
     public void playTurn(Game game) {
         // El jugador humano juega manualmente desde la GUI,
         // así que aquí solo se deja la llamada vacía.
-        System.out.println(name + " debe jugar su turno manualmente.");
+        GameLog.info("{} debe jugar su turno manualmente.", name);
     }
 }
@@ -43,6 +43,7 @@ public interface IPlayer {
      * @param eliminated true to mark the player as eliminated, false otherwise
      */
     void setEliminated(boolean eliminated);
+
     /**
      * Returns the current hand of the player.
      *
@@ -50,10 +51,24 @@ public interface IPlayer {
      */
     List<Card> getHand();
 
+    /**
+     * Returns the current hand of the player as a bitmask card set.
+     * <p>
+     * The returned set and {@link #getHand()} share the same contents. Once
+     * the player sits at a {@link Game}, the set is locked and only the game
+     * changes it; the mutators of the set and of {@link #getHand()} throw
+     * {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @return the set of cards held by the player
+     */
+    CardSet getHandSet();
+
     /**
      * Adds a card to the player's hand.
      *
      * @param c the card to add
+     * @throws UnsupportedOperationException if the player sits at a game
      */
     void addCard(Card c);
 
@@ -61,6 +76,7 @@ public interface IPlayer {
      * Removes a card from the player's hand.
      *
      * @param c the card to remove
+     * @throws UnsupportedOperationException if the player sits at a game
      */
     void removeCard(Card c);
 
@@ -1,6 +1,8 @@
 package edu.univalle.cincuentazo.model;
 
+import edu.univalle.cincuentazo.log.GameLog;
 import edu.univalle.cincuentazo.exceptions.InvalidCardPlayException;
+import edu.univalle.cincuentazo.model.strategy.Strategy;
 
 /**
  * Represents a machine-controlled player in the Cincuentazo game.
@@ -10,33 +12,113 @@ import edu.univalle.cincuentazo.exceptions.InvalidCardPlayException;
  * </p>
  *
  * <p>
- * On its turn, the machine player chooses the first card in its hand that
- * does not make the table sum exceed 50, plays it, and then draws a card
- * from the deck if possible. If no valid card is available, the machine
- * passes its turn.
+ * On its turn, the machine player asks its {@link Strategy} which card to
+ * play, giving it a time budget for the decision, plays the card and then
+ * draws a card from the deck if possible. If the strategy returns an illegal
+ * move the machine falls back to the first playable card; if no valid card
+ * is available, the machine passes its turn. By default machines play the
+ * first card in their hand that does not make the table sum exceed the
+ * limit of the game.
  * </p>
  *
  * @see AbstractPlayer
  * @see IPlayer
+ * @see Strategy
  * @since 1.0
  */
 public class MachinePlayer extends AbstractPlayer {
 
+    /** Default time budget of a decision, in nanoseconds. */
+    public static final long DEFAULT_BUDGET_NANOS = 500_000_000L;
+
+    /** The decision policy of this machine. */
+    private final Strategy strategy;
+
+    /** Time budget of a decision, in nanoseconds. */
+    private final long budgetNanos;
+
     /**
-     * Constructs a new machine player with the given name.
+     * Constructs a new machine player with the given name and the default strategy.
      *
      * @param name the name of the machine player
      */
     public MachinePlayer(String name) {
+        this(name, Strategy.FIRST_PLAYABLE);
+    }
+
+    /**
+     * Constructs a new machine player with the given strategy and the default time budget.
+     *
+     * @param name     the name of the machine player
+     * @param strategy the decision policy of the machine
+     */
+    public MachinePlayer(String name, Strategy strategy) {
+        this(name, strategy, DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Constructs a new machine player with the given strategy and time budget.
+     *
+     * @param name        the name of the machine player
+     * @param strategy    the decision policy of the machine
+     * @param budgetNanos the time budget of each decision, in nanoseconds
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public MachinePlayer(String name, Strategy strategy, long budgetNanos) {
         super(name, true);
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("El presupuesto de tiempo no puede ser negativo.");
+        }
+        this.strategy = strategy;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Returns the decision policy of this machine.
+     *
+     * @return the strategy
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns the time budget of each decision.
+     *
+     * @return the budget in nanoseconds
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Chooses the move to play in the current game state.
+     * <p>
+     * Delegates to the strategy with a deadline of now plus the time budget.
+     * A move that is not legal (a card not in the hand, or one that exceeds
+     * the limit) is replaced by the first playable card. This method has no
+     * side effects on the game.
+     * </p>
+     *
+     * @param game the current game instance
+     * @return the chosen move, or null if no card can be played
+     */
+    public Move chooseMove(Game game) {
+        long playable = hand.bits() & game.playableMask();
+        if (playable == 0) return null;
+
+        Move move = strategy.chooseMove(game, this, System.nanoTime() + budgetNanos);
+        if (move != null && game.isLegal(this, move)) {
+            return move;
+        }
+        return Move.of(CardSet.first(playable));
     }
 
     /**
      * Performs the machine player's turn automatically.
      * <p>
-     * Selects the first playable card that does not exceed the table limit of 50,
-     * plays it, and draws a card from the deck. If no card can be played, the
-     * machine passes its turn.
+     * Plays the move chosen by the strategy and draws a card from the deck.
+     * If no card can be played, the machine passes its turn.
      * </p>
      *
      * @param game the current game instance
@@ -44,25 +126,18 @@ public class MachinePlayer extends AbstractPlayer {
      */
     @Override
     public void playTurn(Game game) {
-        Card chosen = null;
-        for (Card c : hand) {
-            if (game.getTableSum() + game.getCardValue(c) <= 50) {
-                chosen = c;
-                break;
-            }
-        }
+        Move chosen = chooseMove(game);
 
         if (chosen != null) {
-            hand.remove(chosen);
             try {
-                game.playCard(this, chosen);
+                game.playMove(this, chosen);
             } catch (InvalidCardPlayException e) {
                 throw new RuntimeException(e);
             }
-            System.out.println(name + " jugó " + chosen + " (total: " + game.getTableSum() + ")");
+            GameLog.info("{} jugó {} (total: {})", name, chosen, game.getTableSum());
             game.drawCard(this);
         } else {
-            System.out.println(name + " pasa turno (no puede jugar sin exceder 50)");
+            GameLog.info("{} pasa turno (no puede jugar sin exceder {})", name, game.getRules().getLimit());
         }
     }
 }
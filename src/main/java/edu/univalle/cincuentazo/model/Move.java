@@ -0,0 +1,129 @@
+package edu.univalle.cincuentazo.model;
+
+/**
+ * A play in the Cincuentazo game: a card and, for an Ace, whether it is
+ * played with its high value.
+ * <p>
+ * Only Aces have a choice of value, low or high; every other card is played
+ * with its own value. A move does not hold the value itself, which depends
+ * on the {@link RuleSet} of the game it is played in; see
+ * {@link #getValue(RuleSet)}. Moves are immutable and every possible move is
+ * created once, so obtaining one through {@link #of(Card)},
+ * {@link #ofAce(Card, boolean)} or {@link #of(Card, int, RuleSet)} never
+ * allocates.
+ * </p>
+ *
+ * @see Card
+ * @see edu.univalle.cincuentazo.model.strategy.Strategy
+ * @since 1.0
+ */
+public final class Move {
+
+    /** Moves with the default value of each card, indexed by ordinal. */
+    private static final Move[] DEFAULT_MOVES = new Move[Card.values().length];
+
+    /** Moves that play each Ace with its high value, indexed by ordinal. */
+    private static final Move[] HIGH_ACE_MOVES = new Move[Card.values().length];
+
+    static {
+        for (Card c : Card.values()) {
+            DEFAULT_MOVES[c.ordinal()] = new Move(c, false);
+            if (c.isAce()) {
+                HIGH_ACE_MOVES[c.ordinal()] = new Move(c, true);
+            }
+        }
+    }
+
+    /** The card played. */
+    private final Card card;
+
+    /** Whether the card is an Ace played with its high value. */
+    private final boolean highAce;
+
+    private Move(Card card, boolean highAce) {
+        this.card = card;
+        this.highAce = highAce;
+    }
+
+    /**
+     * Returns the move that plays the given card with its default value.
+     *
+     * @param card the card to play, or null
+     * @return the move, or null if the card is null
+     */
+    public static Move of(Card card) {
+        return card == null ? null : DEFAULT_MOVES[card.ordinal()];
+    }
+
+    /**
+     * Returns the move that adds the given value to the table under the given rules.
+     *
+     * @param card  the card to play
+     * @param value the value of the card; for an Ace, its value or the high Ace value of the rules
+     * @param rules the rules of the game
+     * @return the move
+     * @throws IllegalArgumentException if the value is not valid for the card
+     */
+    public static Move of(Card card, int value, RuleSet rules) {
+        if (value == rules.getCardValue(card)) {
+            return DEFAULT_MOVES[card.ordinal()];
+        }
+        if (card.isAce() && value == rules.getAceHigh()) {
+            return HIGH_ACE_MOVES[card.ordinal()];
+        }
+        throw new IllegalArgumentException("Valor inválido para " + card + ": " + value);
+    }
+
+    /**
+     * Returns the move that plays an Ace with its low or its high value.
+     * <p>
+     * The actual values come from the {@link RuleSet} of the game the move
+     * is played in.
+     * </p>
+     *
+     * @param ace  the Ace to play
+     * @param high true to play the high value
+     * @return the move
+     * @throws IllegalArgumentException if the card is not an Ace
+     */
+    public static Move ofAce(Card ace, boolean high) {
+        if (!ace.isAce()) {
+            throw new IllegalArgumentException(ace + " no es un As.");
+        }
+        return high ? HIGH_ACE_MOVES[ace.ordinal()] : DEFAULT_MOVES[ace.ordinal()];
+    }
+
+    /**
+     * Returns the card played.
+     *
+     * @return the card
+     */
+    public Card getCard() {
+        return card;
+    }
+
+    /**
+     * Returns the value the move adds to the table under the given rules.
+     *
+     * @param rules the rules of the game, usually {@link Game#getRules()}
+     * @return the high Ace value for a high Ace, otherwise the value of the card
+     */
+    public int getValue(RuleSet rules) {
+        return highAce ? rules.getAceHigh() : rules.getCardValue(card);
+    }
+
+    /**
+     * Returns whether the move plays an Ace with its high value.
+     *
+     * @return true for a high Ace
+     */
+    public boolean isHighAce() {
+        return highAce;
+    }
+
+    @Override
+    public String toString() {
+        if (!card.isAce()) return card.toString();
+        return card + (highAce ? " (alto)" : " (bajo)");
+    }
+}
@@ -0,0 +1,89 @@
+package edu.univalle.cincuentazo.model;
+
+import java.util.Arrays;
+
+/**
+ * Read-only observable {@code int} value of a {@link Game}.
+ * <p>
+ * The game updates the value after every change of the state it reflects
+ * and notifies the listeners only when the value actually changed, on the
+ * thread that changed the game. The class has no dependency on JavaFX, so
+ * the model can be observed by any front end, and stores the value as a
+ * primitive, so updates allocate nothing.
+ * </p>
+ *
+ * @see Game#tableSumProperty()
+ * @since 1.0
+ */
+public final class ObservableInt {
+
+    /** Receives the changes of an {@link ObservableInt}. */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called after the value changed.
+         *
+         * @param oldValue the previous value
+         * @param newValue the current value
+         */
+        void changed(int oldValue, int newValue);
+    }
+
+    private static final Listener[] NO_LISTENERS = new Listener[0];
+
+    private int value;
+    private Listener[] listeners = NO_LISTENERS;
+
+    ObservableInt() {
+    }
+
+    /**
+     * Returns the current value.
+     *
+     * @return the value
+     */
+    public int get() {
+        return value;
+    }
+
+    /**
+     * Registers a listener for the changes of the value.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(Listener listener) {
+        Listener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        listeners = copy;
+    }
+
+    /**
+     * Removes a listener of the value.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(Listener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                Listener[] copy = new Listener[listeners.length - 1];
+                System.arraycopy(listeners, 0, copy, 0, i);
+                System.arraycopy(listeners, i + 1, copy, i, copy.length - i);
+                listeners = copy.length == 0 ? NO_LISTENERS : copy;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Updates the value and notifies the listeners if it changed.
+     *
+     * @param newValue the new value
+     */
+    void set(int newValue) {
+        int oldValue = value;
+        if (oldValue == newValue) return;
+        value = newValue;
+        for (Listener l : listeners) l.changed(oldValue, newValue);
+    }
+}
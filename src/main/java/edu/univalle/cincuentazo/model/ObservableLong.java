@@ -0,0 +1,87 @@
+package edu.univalle.cincuentazo.model;
+
+import java.util.Arrays;
+
+/**
+ * Read-only observable {@code long} value of a {@link Game}.
+ * <p>
+ * Behaves like {@link ObservableInt}. The game uses it for the hands, whose
+ * cards are published as the 64-bit mask of their {@link CardSet}, so a
+ * listener can diff the old and new hands with bit operations.
+ * </p>
+ *
+ * @see Game#handProperty(int)
+ * @since 1.0
+ */
+public final class ObservableLong {
+
+    /** Receives the changes of an {@link ObservableLong}. */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called after the value changed.
+         *
+         * @param oldValue the previous value
+         * @param newValue the current value
+         */
+        void changed(long oldValue, long newValue);
+    }
+
+    private static final Listener[] NO_LISTENERS = new Listener[0];
+
+    private long value;
+    private Listener[] listeners = NO_LISTENERS;
+
+    ObservableLong() {
+    }
+
+    /**
+     * Returns the current value.
+     *
+     * @return the value
+     */
+    public long get() {
+        return value;
+    }
+
+    /**
+     * Registers a listener for the changes of the value.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(Listener listener) {
+        Listener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        listeners = copy;
+    }
+
+    /**
+     * Removes a listener of the value.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(Listener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                Listener[] copy = new Listener[listeners.length - 1];
+                System.arraycopy(listeners, 0, copy, 0, i);
+                System.arraycopy(listeners, i + 1, copy, i, copy.length - i);
+                listeners = copy.length == 0 ? NO_LISTENERS : copy;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Updates the value and notifies the listeners if it changed.
+     *
+     * @param newValue the new value
+     */
+    void set(long newValue) {
+        long oldValue = value;
+        if (oldValue == newValue) return;
+        value = newValue;
+        for (Listener l : listeners) l.changed(oldValue, newValue);
+    }
+}
@@ -0,0 +1,88 @@
+package edu.univalle.cincuentazo.model;
+
+import java.util.Arrays;
+
+/**
+ * Read-only observable reference of a {@link Game}.
+ * <p>
+ * Behaves like {@link ObservableInt}. Values are compared by identity, which
+ * suits the enum constants and immutable objects the game publishes, such as
+ * the card on top of the table.
+ * </p>
+ *
+ * @see Game#topCardProperty()
+ * @since 1.0
+ */
+public final class ObservableObject<T> {
+
+    /** Receives the changes of an {@link ObservableObject}. */
+    @FunctionalInterface
+    public interface Listener<T> {
+
+        /**
+         * Called after the value changed.
+         *
+         * @param oldValue the previous value
+         * @param newValue the current value
+         */
+        void changed(T oldValue, T newValue);
+    }
+
+    private static final Listener<?>[] NO_LISTENERS = new Listener<?>[0];
+
+    private T value;
+
+    @SuppressWarnings("unchecked")
+    private Listener<T>[] listeners = (Listener<T>[]) NO_LISTENERS;
+
+    ObservableObject() {
+    }
+
+    /**
+     * Returns the current value.
+     *
+     * @return the value
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Registers a listener for the changes of the value.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(Listener<T> listener) {
+        Listener<T>[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        listeners = copy;
+    }
+
+    /**
+     * Removes a listener of the value.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(Listener<T> listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                Listener<T>[] copy = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, copy, i, copy.length - i);
+                listeners = copy;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Updates the value and notifies the listeners if it changed.
+     *
+     * @param newValue the new value
+     */
+    void set(T newValue) {
+        T oldValue = value;
+        if (oldValue == newValue) return;
+        value = newValue;
+        for (Listener<T> l : listeners) l.changed(oldValue, newValue);
+    }
+}
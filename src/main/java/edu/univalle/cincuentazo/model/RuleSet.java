@@ -0,0 +1,271 @@
+package edu.univalle.cincuentazo.model;
+
+/**
+ * Immutable rules of a game of Cincuentazo.
+ * <p>
+ * Gathers every number the game used to hardcode: the table limit, the
+ * size of a hand, the value of each card, the two values an Ace may take,
+ * the number of seats and the number of decks. Each {@link Game} receives
+ * its rules when it is created and keeps them for its whole life, so games
+ * with different rules can run side by side without sharing any mutable
+ * configuration.
+ * </p>
+ *
+ * <p>
+ * Rules are derived from {@link #STANDARD} with the {@code with} methods,
+ * each of which returns a new instance and validates the result:
+ * </p>
+ * <pre>{@code
+ * RuleSet rules = RuleSet.STANDARD.withSeats(3).withLimit(60);
+ * Game game = new Game(rules, new SplittableRandom(seed));
+ * }</pre>
+ *
+ * <p>
+ * Large tables need more than one deck: a 52-card deck deals four cards to
+ * at most twelve players, so sixteen seats are written
+ * {@code RuleSet.STANDARD.withDecks(2).withSeats(16)}.
+ * </p>
+ *
+ * @see Game#getRules()
+ * @since 1.0
+ */
+public final class RuleSet {
+
+    /** Minimum number of seats of a game. */
+    public static final int MIN_SEATS = 2;
+
+    /** Maximum number of seats of a game. */
+    public static final int MAX_SEATS = 16;
+
+    /** Maximum number of decks of a game. */
+    public static final int MAX_DECKS = 4;
+
+    /** The classic rules: limit 50, four cards, faces worth -10, Aces worth 1 or 10, four seats, one deck. */
+    public static final RuleSet STANDARD = new RuleSet(50, 4, CardValues.STANDARD, 1, 10, 4, 1);
+
+    private final int limit;
+    private final int handSize;
+    private final CardValues values;
+    private final int aceLow;
+    private final int aceHigh;
+    private final int seats;
+    private final int decks;
+
+    private RuleSet(int limit, int handSize, CardValues values, int aceLow, int aceHigh, int seats, int decks) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("El límite de la mesa debe ser positivo.");
+        }
+        if (seats < MIN_SEATS || seats > MAX_SEATS) {
+            throw new IllegalArgumentException("El juego necesita entre " + MIN_SEATS + " y " + MAX_SEATS + " jugadores.");
+        }
+        if (decks < 1 || decks > MAX_DECKS) {
+            throw new IllegalArgumentException("El número de barajas debe estar entre 1 y " + MAX_DECKS + ".");
+        }
+        // Cada jugador recibe su mano y una carta más abre la mesa
+        if (handSize < 1 || seats * handSize + 1 > decks * Card.values().length) {
+            throw new IllegalArgumentException("No hay cartas suficientes para repartir " + handSize
+                    + " cartas a " + seats + " jugadores.");
+        }
+        if (aceLow > aceHigh) {
+            throw new IllegalArgumentException("El valor bajo del As no puede superar al alto.");
+        }
+        this.limit = limit;
+        this.handSize = handSize;
+        this.values = values;
+        this.aceLow = aceLow;
+        this.aceHigh = aceHigh;
+        this.seats = seats;
+        this.decks = decks;
+    }
+
+    /**
+     * Returns the maximum sum the table may reach.
+     *
+     * @return the table limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of cards dealt to each player and kept after every draw.
+     *
+     * @return the hand size
+     */
+    public int getHandSize() {
+        return handSize;
+    }
+
+    /**
+     * Returns the value a card adds to the table.
+     * <p>
+     * For an Ace this is its low value; see {@link #getAceHigh()}.
+     * </p>
+     *
+     * @param card the card
+     * @return the card value
+     */
+    public int getCardValue(Card card) {
+        return values.valueOf(card);
+    }
+
+    /**
+     * Returns the low value of an Ace, which is also its default value.
+     *
+     * @return the low Ace value
+     */
+    public int getAceLow() {
+        return aceLow;
+    }
+
+    /**
+     * Returns the high value an Ace may take instead of its low value.
+     *
+     * @return the high Ace value
+     */
+    public int getAceHigh() {
+        return aceHigh;
+    }
+
+    /**
+     * Returns the number of seats of the game.
+     *
+     * @return the player count
+     */
+    public int getSeats() {
+        return seats;
+    }
+
+    /**
+     * Returns the number of decks shuffled together.
+     *
+     * @return the deck count
+     */
+    public int getDecks() {
+        return decks;
+    }
+
+    /**
+     * Returns the value table of the cards.
+     *
+     * @return the card values
+     */
+    CardValues values() {
+        return values;
+    }
+
+    /**
+     * Returns these rules with a different table limit.
+     *
+     * @param limit the maximum table sum
+     * @return the new rules
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public RuleSet withLimit(int limit) {
+        return new RuleSet(limit, handSize, values, aceLow, aceHigh, seats, decks);
+    }
+
+    /**
+     * Returns these rules with a different hand size.
+     *
+     * @param handSize the number of cards of a hand
+     * @return the new rules
+     * @throws IllegalArgumentException if the deck cannot deal that many cards
+     */
+    public RuleSet withHandSize(int handSize) {
+        return new RuleSet(limit, handSize, values, aceLow, aceHigh, seats, decks);
+    }
+
+    /**
+     * Returns these rules with a different value for one card.
+     * <p>
+     * Changing the value of an Ace changes its low value only for that card;
+     * use {@link #withAceValues(int, int)} to change every Ace.
+     * </p>
+     *
+     * @param card  the card
+     * @param value the new value
+     * @return the new rules
+     */
+    public RuleSet withCardValue(Card card, int value) {
+        return new RuleSet(limit, handSize, values.with(card, value), aceLow, aceHigh, seats, decks);
+    }
+
+    /**
+     * Returns these rules with a different value for every Jack, Queen and King.
+     *
+     * @param value the value of the face cards
+     * @return the new rules
+     */
+    public RuleSet withFaceValue(int value) {
+        CardValues faces = values;
+        for (Card c : Card.values()) {
+            if (c.getRank() >= 11) faces = faces.with(c, value);
+        }
+        return new RuleSet(limit, handSize, faces, aceLow, aceHigh, seats, decks);
+    }
+
+    /**
+     * Returns these rules with different values for the Aces.
+     *
+     * @param low  the default value of an Ace
+     * @param high the value an Ace may take instead
+     * @return the new rules
+     * @throws IllegalArgumentException if the low value is above the high one
+     */
+    public RuleSet withAceValues(int low, int high) {
+        CardValues aces = values;
+        for (Card c : Card.values()) {
+            if (c.isAce()) aces = aces.with(c, low);
+        }
+        return new RuleSet(limit, handSize, aces, low, high, seats, decks);
+    }
+
+    /**
+     * Returns these rules for a different number of seats.
+     *
+     * @param seats the number of players
+     * @return the new rules
+     * @throws IllegalArgumentException if the number is out of range or the deck is too small
+     */
+    public RuleSet withSeats(int seats) {
+        return new RuleSet(limit, handSize, values, aceLow, aceHigh, seats, decks);
+    }
+
+    /**
+     * Returns these rules with a different number of decks.
+     *
+     * @param decks the number of decks
+     * @return the new rules
+     * @throws IllegalArgumentException if the number is out of range
+     */
+    public RuleSet withDecks(int decks) {
+        return new RuleSet(limit, handSize, values, aceLow, aceHigh, seats, decks);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RuleSet other)) return false;
+        return limit == other.limit && handSize == other.handSize && aceLow == other.aceLow
+                && aceHigh == other.aceHigh && seats == other.seats && decks == other.decks
+                && values.equals(other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = limit;
+        h = 31 * h + handSize;
+        h = 31 * h + aceLow;
+        h = 31 * h + aceHigh;
+        h = 31 * h + seats;
+        h = 31 * h + decks;
+        return 31 * h + values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSet[límite=" + limit + ", mano=" + handSize + ", As=" + aceLow + "/" + aceHigh
+                + ", jugadores=" + seats + ", barajas=" + decks + "]";
+    }
+}
@@ -0,0 +1,42 @@
+package edu.univalle.cincuentazo.model.strategy;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.Move;
+import edu.univalle.cincuentazo.model.RuleSet;
+
+/**
+ * Strategy that always plays the playable card with the highest value.
+ * <p>
+ * Aces are played high (10 in the standard rules) whenever that fits under
+ * the limit. Pushing the sum up quickly leaves the opponents less room.
+ * </p>
+ *
+ * @see Strategy
+ * @since 1.0
+ */
+public class GreedyHighStrategy implements Strategy {
+
+    @Override
+    public Move chooseMove(Game game, IPlayer player, long deadline) {
+        RuleSet rules = game.getRules();
+        int room = rules.getLimit() - game.getTableSum();
+        long playable = player.getHandSet().bits() & game.playableMask();
+        Card best = null;
+        boolean bestHigh = false;
+        int bestValue = Integer.MIN_VALUE;
+        for (long bits = playable; bits != 0; bits &= bits - 1) {
+            Card c = Card.fromOrdinal(Long.numberOfTrailingZeros(bits));
+            boolean high = c.isAce() && room >= rules.getAceHigh();
+            int value = high ? rules.getAceHigh() : game.getCardValue(c);
+            if (value > bestValue) {
+                best = c;
+                bestHigh = high;
+                bestValue = value;
+            }
+        }
+        if (best == null) return null;
+        return best.isAce() ? Move.ofAce(best, bestHigh) : Move.of(best);
+    }
+}
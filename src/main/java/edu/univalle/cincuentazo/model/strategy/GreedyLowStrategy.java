@@ -0,0 +1,35 @@
+package edu.univalle.cincuentazo.model.strategy;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.Move;
+
+/**
+ * Strategy that always plays the playable card with the lowest value.
+ * <p>
+ * Face cards (-10) are played first and Aces count as 1, keeping the table
+ * sum as low as possible for the player's next turn.
+ * </p>
+ *
+ * @see Strategy
+ * @since 1.0
+ */
+public class GreedyLowStrategy implements Strategy {
+
+    @Override
+    public Move chooseMove(Game game, IPlayer player, long deadline) {
+        long playable = player.getHandSet().bits() & game.playableMask();
+        Card best = null;
+        int bestValue = Integer.MAX_VALUE;
+        for (long bits = playable; bits != 0; bits &= bits - 1) {
+            Card c = Card.fromOrdinal(Long.numberOfTrailingZeros(bits));
+            int value = game.getCardValue(c);
+            if (value < bestValue) {
+                best = c;
+                bestValue = value;
+            }
+        }
+        return Move.of(best);
+    }
+}
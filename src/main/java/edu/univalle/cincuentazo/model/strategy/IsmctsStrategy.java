@@ -0,0 +1,620 @@
+package edu.univalle.cincuentazo.model.strategy;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.CardSet;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.Move;
+import edu.univalle.cincuentazo.model.RuleSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Time-bounded Information Set Monte Carlo Tree Search (ISMCTS) strategy.
+ * <p>
+ * The player cannot see the deck nor the opponents' hands, so every iteration
+ * of the search starts from a <em>determinization</em>: the unseen cards (every
+ * card that is neither in the player's hand nor on the table) are shuffled and
+ * dealt to the opponents, respecting how many cards each of them holds, and
+ * the rest form the deck. The iteration then descends a single tree shared by
+ * all determinizations (single-observer ISMCTS), choosing among the moves that
+ * are legal in that determinization with UCB1 weighted by availability,
+ * expands one new move, and finishes the game with a fast playout policy:
+ * most turns play the legal move with the highest value, which is the
+ * strongest simple heuristic of the game, and the rest play a random legal
+ * move. A playout is won by the player that remains active at the end.
+ * </p>
+ *
+ * <p>
+ * Searches run in parallel: each worker thread owns its own tree, random
+ * stream and game state, all preallocated as primitive arrays, so copying the
+ * observed state into a determinization and playing it out allocate nothing.
+ * When the deadline is reached the visit counts of the root moves of every
+ * worker are added up and the most visited move is played. Moves cover both
+ * values of every Ace.
+ * </p>
+ *
+ * <p>
+ * Tables of any size and games with several decks are searched exactly:
+ * hands keep one mask per copy of a card, and the table is a list of card
+ * ordinals, so duplicated cards are dealt, played and recycled like in the
+ * real game.
+ * </p>
+ *
+ * <p>
+ * Decisions of one instance are serialized; an instance can be shared by
+ * several machines of the same game but not by games running concurrently.
+ * Call {@link #close()} to stop the worker threads.
+ * </p>
+ *
+ * @see Strategy
+ * @since 1.0
+ */
+public class IsmctsStrategy implements Strategy, AutoCloseable {
+
+    /** Maximum number of nodes of each worker's tree. */
+    private static final int MAX_NODES = 1 << 17;
+
+    /** Maximum number of turns of a playout before it is abandoned. */
+    private static final int MAX_PLAYOUT_TURNS = 400;
+
+    /** Exploration constant of UCB1. */
+    private static final double EXPLORATION = 0.7;
+
+    /** Number of move identifiers: two per card (low or high value for Aces). */
+    private static final int MOVE_IDS = 2 * Card.values().length;
+
+    /** Number of hand masks of each seat, one per copy of a card. */
+    private static final int PLANES = RuleSet.MAX_DECKS;
+
+    /** Maximum number of cards of a game. */
+    private static final int MAX_CARDS = Card.values().length * RuleSet.MAX_DECKS;
+
+    /** The search workers, one per thread. */
+    private final Worker[] workers;
+
+    /** Tasks submitted for each decision. */
+    private final List<Callable<Void>> tasks = new ArrayList<>();
+
+    /** Executor running the workers, or null when searching on the caller thread. */
+    private final ExecutorService executor;
+
+    /** Total visits of each root move across workers, indexed by move id. */
+    private final long[] rootVisits = new long[MOVE_IDS];
+
+    /** Number of playouts of the last decision. */
+    private volatile long lastPlayouts;
+
+    /**
+     * Constructs a search with one worker per available core minus one.
+     *
+     * @param seed the seed of the workers' random streams
+     */
+    public IsmctsStrategy(long seed) {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), seed);
+    }
+
+    /**
+     * Constructs a search with the given number of parallel workers.
+     * <p>
+     * With a single worker the search runs on the caller thread and no
+     * executor is created.
+     * </p>
+     *
+     * @param parallelism the number of workers
+     * @param seed        the seed of the workers' random streams
+     * @throws IllegalArgumentException if the parallelism is less than one
+     */
+    public IsmctsStrategy(int parallelism, long seed) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo de búsqueda.");
+        }
+        SplittableRandom seeds = new SplittableRandom(seed);
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(seeds.split());
+            tasks.add(workers[i]);
+        }
+        executor = parallelism == 1 ? null : Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "ismcts-worker");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Returns the number of playouts run by the last decision, across workers.
+     *
+     * @return the number of playouts
+     */
+    public long getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    @Override
+    public synchronized Move chooseMove(Game game, IPlayer player, long deadline) {
+        Worker first = workers[0];
+        first.observe(game, player);
+        int legal = first.legalMoves(first.me, first.rootMoves);
+        if (legal == 0) return null;
+        if (legal == 1) return toMove(first.rootMoves[0]);
+
+        for (int i = 1; i < workers.length; i++) {
+            workers[i].copyObservation(first);
+        }
+        for (Worker w : workers) {
+            w.deadline = deadline;
+        }
+        runWorkers();
+
+        Arrays.fill(rootVisits, 0);
+        long playouts = 0;
+        for (Worker w : workers) {
+            playouts += w.playouts;
+            for (int child = w.firstChild[0]; child >= 0; child = w.nextSibling[child]) {
+                rootVisits[w.move[child]] += w.visits[child];
+            }
+        }
+        lastPlayouts = playouts;
+
+        int best = first.rootMoves[0];
+        for (int i = 1; i < legal; i++) {
+            int id = first.rootMoves[i];
+            if (rootVisits[id] > rootVisits[best]) best = id;
+        }
+        return toMove(best);
+    }
+
+    /**
+     * Runs every worker until the deadline.
+     */
+    private void runWorkers() {
+        if (executor == null) {
+            workers[0].call();
+            return;
+        }
+        try {
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error en la búsqueda ISMCTS.", e.getCause());
+        }
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Converts a move identifier into a move.
+     *
+     * @param id the move identifier
+     * @return the move
+     */
+    private static Move toMove(int id) {
+        Card card = Card.fromOrdinal(id >> 1);
+        return card.isAce() ? Move.ofAce(card, (id & 1) == 1) : Move.of(card);
+    }
+
+    /**
+     * One search thread: a tree, a random stream and a reusable game state.
+     */
+    private static final class Worker implements Callable<Void> {
+
+        private final SplittableRandom random;
+
+        // Estado observado
+        private final int[] values = new int[Card.values().length];
+        private int limit;
+        private int aceHigh;
+        private final int[] handSizes = new int[RuleSet.MAX_SEATS];
+        private final int[] rootMoves = new int[MOVE_IDS];
+        private int seats;
+        private int copies;
+        private int me;
+        private final long[] rootHand = new long[PLANES];
+        private final int[] rootTable = new int[MAX_CARDS];
+        private int rootTableSize;
+        private final int[] rootUnseen = new int[MAX_CARDS];
+        private int rootUnseenSize;
+        private int rootTop;
+        private int rootSum;
+        private int rootActive;
+
+        // Estado de la determinización: la mano del asiento s ocupa hands[s * PLANES ...]
+        private final long[] hands = new long[RuleSet.MAX_SEATS * PLANES];
+        private final int[] deck = new int[MAX_CARDS];
+        private final int[] unseen = new int[MAX_CARDS];
+        private final int[] moves = new int[MOVE_IDS];
+        private final int[] untried = new int[MOVE_IDS];
+        private int deckSize;
+        private final int[] table = new int[MAX_CARDS];
+        private int tableSize;
+        private int top;
+        private int sum;
+        private int active;
+        private int current;
+
+        // Árbol
+        private final int[] move = new int[MAX_NODES];
+        private final int[] mover = new int[MAX_NODES];
+        private final int[] firstChild = new int[MAX_NODES];
+        private final int[] nextSibling = new int[MAX_NODES];
+        private final int[] visits = new int[MAX_NODES];
+        private final int[] available = new int[MAX_NODES];
+        private final float[] wins = new float[MAX_NODES];
+        private final int[] path = new int[MAX_NODES];
+        private int nodeCount;
+
+        private long deadline;
+        private long playouts;
+
+        Worker(SplittableRandom random) {
+            this.random = random;
+        }
+
+        /**
+         * Reads what the given player can observe of the game.
+         */
+        void observe(Game game, IPlayer player) {
+            List<IPlayer> players = game.getPlayers();
+            seats = players.size();
+            active = 0;
+            for (int s = 0; s < seats; s++) {
+                IPlayer p = players.get(s);
+                if (p == player) me = s;
+                handSizes[s] = p.getHandSet().size();
+                if (!p.isEliminated()) active |= 1 << s;
+            }
+            for (Card c : Card.values()) {
+                values[c.ordinal()] = game.getCardValue(c);
+            }
+            limit = game.getRules().getLimit();
+            aceHigh = game.getRules().getAceHigh();
+            copies = game.getRules().getDecks();
+            rootActive = active;
+            CardSet hand = player.getHandSet();
+            for (int k = 0; k < copies; k++) {
+                rootHand[k] = hand.bits(k);
+            }
+            // La carta superior va al final de la lista de la mesa
+            Card topCard = game.getCurrentTableCard();
+            CardSet tableCards = game.getTableCards();
+            rootTableSize = 0;
+            for (Card c : tableCards.asList()) {
+                rootTable[rootTableSize++] = c.ordinal();
+            }
+            for (int i = 0; i < rootTableSize - 1; i++) {
+                if (rootTable[i] == topCard.ordinal()) {
+                    rootTable[i] = rootTable[rootTableSize - 1];
+                    rootTable[rootTableSize - 1] = topCard.ordinal();
+                    break;
+                }
+            }
+            rootUnseenSize = 0;
+            for (Card c : Card.values()) {
+                for (int n = copies - hand.count(c) - tableCards.count(c); n > 0; n--) {
+                    rootUnseen[rootUnseenSize++] = c.ordinal();
+                }
+            }
+            rootTop = topCard.ordinal();
+            rootSum = game.getTableSum();
+            resetToRoot();
+        }
+
+        /**
+         * Copies the observation read by another worker.
+         */
+        void copyObservation(Worker other) {
+            System.arraycopy(other.values, 0, values, 0, values.length);
+            limit = other.limit;
+            aceHigh = other.aceHigh;
+            System.arraycopy(other.handSizes, 0, handSizes, 0, handSizes.length);
+            seats = other.seats;
+            copies = other.copies;
+            me = other.me;
+            System.arraycopy(other.rootHand, 0, rootHand, 0, PLANES);
+            System.arraycopy(other.rootTable, 0, rootTable, 0, other.rootTableSize);
+            rootTableSize = other.rootTableSize;
+            System.arraycopy(other.rootUnseen, 0, rootUnseen, 0, other.rootUnseenSize);
+            rootUnseenSize = other.rootUnseenSize;
+            rootTop = other.rootTop;
+            rootSum = other.rootSum;
+            rootActive = other.rootActive;
+        }
+
+        @Override
+        public Void call() {
+            nodeCount = 1;
+            move[0] = -1;
+            mover[0] = -1;
+            firstChild[0] = -1;
+            nextSibling[0] = -1;
+            visits[0] = 0;
+            playouts = 0;
+            do {
+                // Revisar el reloj cada pocas iteraciones
+                for (int i = 0; i < 16; i++) {
+                    iterate();
+                }
+            } while (System.nanoTime() < deadline);
+            return null;
+        }
+
+        /**
+         * Runs one determinization: selection, expansion, playout and backpropagation.
+         */
+        private void iterate() {
+            determinize();
+            int node = 0;
+            int depth = 0;
+            path[depth++] = 0;
+
+            while (Integer.bitCount(active) > 1) {
+                int n = legalMoves(current, moves);
+                if (n == 0) {
+                    endTurn();
+                    continue;
+                }
+                int untriedCount = 0;
+                int best = -1;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                for (int i = 0; i < n; i++) {
+                    int child = findChild(node, moves[i]);
+                    if (child < 0) {
+                        untried[untriedCount++] = moves[i];
+                    } else {
+                        available[child]++;
+                        double score = wins[child] / visits[child]
+                                + EXPLORATION * Math.sqrt(Math.log(available[child]) / visits[child]);
+                        if (score > bestScore) {
+                            bestScore = score;
+                            best = child;
+                        }
+                    }
+                }
+                if (untriedCount > 0) {
+                    if (nodeCount < MAX_NODES) {
+                        int id = untried[random.nextInt(untriedCount)];
+                        node = addChild(node, id, current);
+                        path[depth++] = node;
+                        play(id);
+                    }
+                    break;
+                }
+                node = best;
+                path[depth++] = node;
+                play(move[node]);
+            }
+
+            int winner = playout();
+            playouts++;
+            for (int i = 0; i < depth; i++) {
+                int n = path[i];
+                visits[n]++;
+                if (mover[n] == winner) wins[n]++;
+            }
+        }
+
+        /**
+         * Finishes the game with random legal moves.
+         *
+         * @return the winning seat, or -1 if there is none
+         */
+        private int playout() {
+            for (int turn = 0; turn < MAX_PLAYOUT_TURNS && Integer.bitCount(active) > 1; turn++) {
+                int n = legalMoves(current, moves);
+                if (n == 0) {
+                    endTurn();
+                } else {
+                    play(random.nextInt(5) == 0 ? moves[random.nextInt(n)] : highest(n));
+                }
+            }
+            return Integer.bitCount(active) == 1 ? Integer.numberOfTrailingZeros(active) : -1;
+        }
+
+        /**
+         * Returns the move with the highest value among the first {@code n} legal moves.
+         */
+        private int highest(int n) {
+            int best = moves[0];
+            int bestValue = Integer.MIN_VALUE;
+            for (int i = 0; i < n; i++) {
+                int id = moves[i];
+                int ordinal = id >> 1;
+                int value = (id & 1) == 1 ? aceHigh : values[ordinal];
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = id;
+                }
+            }
+            return best;
+        }
+
+        private int findChild(int node, int id) {
+            for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                if (move[child] == id) return child;
+            }
+            return -1;
+        }
+
+        private int addChild(int parent, int id, int seat) {
+            int child = nodeCount++;
+            move[child] = id;
+            mover[child] = seat;
+            firstChild[child] = -1;
+            nextSibling[child] = firstChild[parent];
+            firstChild[parent] = child;
+            visits[child] = 0;
+            available[child] = 1;
+            wins[child] = 0;
+            return child;
+        }
+
+        /**
+         * Restores the observed state without dealing unseen cards.
+         */
+        private void resetToRoot() {
+            System.arraycopy(rootTable, 0, table, 0, rootTableSize);
+            tableSize = rootTableSize;
+            top = rootTop;
+            sum = rootSum;
+            active = rootActive;
+            current = me;
+            System.arraycopy(rootHand, 0, hands, me * PLANES, PLANES);
+        }
+
+        /**
+         * Deals the unseen cards randomly to the opponents and the deck.
+         */
+        private void determinize() {
+            resetToRoot();
+            int n = rootUnseenSize;
+            System.arraycopy(rootUnseen, 0, unseen, 0, n);
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = unseen[i];
+                unseen[i] = unseen[j];
+                unseen[j] = tmp;
+            }
+            int next = 0;
+            for (int s = 0; s < seats; s++) {
+                if (s == me) continue;
+                Arrays.fill(hands, s * PLANES, s * PLANES + copies, 0L);
+                if ((active & (1 << s)) == 0) continue;
+                for (int k = 0; k < handSizes[s] && next < n; k++) {
+                    addCard(s, unseen[next++]);
+                }
+            }
+            deckSize = n - next;
+            System.arraycopy(unseen, next, deck, 0, deckSize);
+        }
+
+        /**
+         * Writes the legal moves of a seat and returns how many there are.
+         */
+        int legalMoves(int seat, int[] out) {
+            int n = 0;
+            for (long bits = hands[seat * PLANES]; bits != 0; bits &= bits - 1) {
+                int ordinal = Long.numberOfTrailingZeros(bits);
+                if (sum + values[ordinal] <= limit) out[n++] = ordinal << 1;
+                if (Card.fromOrdinal(ordinal).isAce() && sum + aceHigh <= limit) out[n++] = (ordinal << 1) | 1;
+            }
+            return n;
+        }
+
+        /**
+         * Plays a move for the current seat, draws and ends the turn.
+         */
+        private void play(int id) {
+            int ordinal = id >> 1;
+            removeCard(current, ordinal);
+            table[tableSize++] = ordinal;
+            top = ordinal;
+            sum += (id & 1) == 1 ? aceHigh : values[ordinal];
+            draw(current);
+            endTurn();
+        }
+
+        private void draw(int seat) {
+            if (deckSize == 0) {
+                // La carta superior es la última de la mesa y se queda
+                System.arraycopy(table, 0, deck, 0, tableSize - 1);
+                deckSize = tableSize - 1;
+                for (int i = deckSize - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    int tmp = deck[i];
+                    deck[i] = deck[j];
+                    deck[j] = tmp;
+                }
+                table[0] = top;
+                tableSize = 1;
+                if (deckSize == 0) return;
+            }
+            addCard(seat, deck[--deckSize]);
+        }
+
+        /**
+         * Adds one copy of a card to the hand of a seat.
+         */
+        private void addCard(int seat, int ordinal) {
+            long bit = 1L << ordinal;
+            int base = seat * PLANES;
+            for (int k = 0; k < copies; k++) {
+                if ((hands[base + k] & bit) == 0) {
+                    hands[base + k] |= bit;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Removes one copy of a card from the hand of a seat.
+         */
+        private void removeCard(int seat, int ordinal) {
+            long bit = 1L << ordinal;
+            int base = seat * PLANES;
+            int k = 0;
+            while (k + 1 < copies && (hands[base + k + 1] & bit) != 0) k++;
+            hands[base + k] &= ~bit;
+        }
+
+        /**
+         * Eliminates stuck players and moves the turn to the next active seat.
+         */
+        private void endTurn() {
+            for (int s = 0; s < seats; s++) {
+                if ((active & (1 << s)) != 0 && !canPlay(s)) {
+                    active &= ~(1 << s);
+                    // Las cartas vuelven al fondo del mazo
+                    int base = s * PLANES;
+                    int count = 0;
+                    for (int k = 0; k < copies; k++) {
+                        count += Long.bitCount(hands[base + k]);
+                    }
+                    System.arraycopy(deck, 0, deck, count, deckSize);
+                    int i = 0;
+                    for (int k = 0; k < copies; k++) {
+                        for (long bits = hands[base + k]; bits != 0; bits &= bits - 1) {
+                            deck[i++] = Long.numberOfTrailingZeros(bits);
+                        }
+                        hands[base + k] = 0;
+                    }
+                    deckSize += count;
+                }
+            }
+            for (int step = 1; step <= seats; step++) {
+                int next = (current + step) % seats;
+                if ((active & (1 << next)) != 0) {
+                    current = next;
+                    return;
+                }
+            }
+        }
+
+        private boolean canPlay(int seat) {
+            for (long bits = hands[seat * PLANES]; bits != 0; bits &= bits - 1) {
+                int ordinal = Long.numberOfTrailingZeros(bits);
+                if (sum + values[ordinal] <= limit) return true;
+            }
+            return false;
+        }
+    }
+}
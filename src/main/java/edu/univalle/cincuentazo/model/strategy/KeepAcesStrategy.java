@@ -0,0 +1,46 @@
+package edu.univalle.cincuentazo.model.strategy;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.CardSet;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.Move;
+import edu.univalle.cincuentazo.model.RuleSet;
+
+/**
+ * Strategy that holds its Aces for as long as possible.
+ * <p>
+ * An Ace is the most flexible card of the game, since it fits whenever the
+ * table has at least one point of room. This strategy plays the lowest
+ * non-Ace card that fits and only plays an Ace when nothing else can be
+ * played, high if possible and low otherwise.
+ * </p>
+ *
+ * @see Strategy
+ * @since 1.0
+ */
+public class KeepAcesStrategy implements Strategy {
+
+    @Override
+    public Move chooseMove(Game game, IPlayer player, long deadline) {
+        long playable = player.getHandSet().bits() & game.playableMask();
+        long aces = playable & CardSet.rankMask(1);
+
+        Card best = null;
+        int bestValue = Integer.MAX_VALUE;
+        for (long bits = playable & ~aces; bits != 0; bits &= bits - 1) {
+            Card c = Card.fromOrdinal(Long.numberOfTrailingZeros(bits));
+            int value = game.getCardValue(c);
+            if (value < bestValue) {
+                best = c;
+                bestValue = value;
+            }
+        }
+        if (best != null) return Move.of(best);
+
+        Card ace = CardSet.first(aces);
+        if (ace == null) return null;
+        RuleSet rules = game.getRules();
+        return Move.ofAce(ace, game.getTableSum() + rules.getAceHigh() <= rules.getLimit());
+    }
+}
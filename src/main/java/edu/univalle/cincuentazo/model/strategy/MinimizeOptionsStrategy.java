@@ -0,0 +1,61 @@
+package edu.univalle.cincuentazo.model.strategy;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.CardSet;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.Move;
+import edu.univalle.cincuentazo.model.RuleSet;
+
+/**
+ * Strategy that leaves the opponents as few playable cards as possible.
+ * <p>
+ * For every legal move (both values for an Ace) it counts how many of the
+ * cards the player has not seen (neither in its hand nor on the table) could
+ * still be played on the resulting sum, and picks the move that minimizes
+ * that count. Ties keep the lower resulting sum, which is safer for the
+ * player's own next turn.
+ * </p>
+ *
+ * @see Strategy
+ * @since 1.0
+ */
+public class MinimizeOptionsStrategy implements Strategy {
+
+    @Override
+    public Move chooseMove(Game game, IPlayer player, long deadline) {
+        long hand = player.getHandSet().bits();
+        // Con varias barajas ver una carta no descarta que quede otra copia
+        long seen = game.getRules().getDecks() == 1 ? hand | game.getTableCards().bits() : 0L;
+        long unseen = CardSet.ALL & ~seen;
+        int sum = game.getTableSum();
+        RuleSet rules = game.getRules();
+
+        Card best = null;
+        boolean bestHigh = false;
+        int bestValue = 0;
+        int bestOptions = Integer.MAX_VALUE;
+        for (long bits = hand & game.playableMask(); bits != 0; bits &= bits - 1) {
+            Card c = Card.fromOrdinal(Long.numberOfTrailingZeros(bits));
+            int value = game.getCardValue(c);
+            int options = Long.bitCount(unseen & game.playableMask(sum + value));
+            if (options < bestOptions || options == bestOptions && value < bestValue) {
+                best = c;
+                bestHigh = false;
+                bestValue = value;
+                bestOptions = options;
+            }
+            if (c.isAce() && sum + rules.getAceHigh() <= rules.getLimit()) {
+                options = Long.bitCount(unseen & game.playableMask(sum + rules.getAceHigh()));
+                if (options < bestOptions) {
+                    best = c;
+                    bestHigh = true;
+                    bestValue = rules.getAceHigh();
+                    bestOptions = options;
+                }
+            }
+        }
+        if (best == null) return null;
+        return best.isAce() ? Move.ofAce(best, bestHigh) : Move.of(best);
+    }
+}
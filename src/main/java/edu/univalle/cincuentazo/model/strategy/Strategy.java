@@ -0,0 +1,42 @@
+package edu.univalle.cincuentazo.model.strategy;
+
+import edu.univalle.cincuentazo.model.CardSet;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.Move;
+
+/**
+ * Decision policy of a machine player.
+ * <p>
+ * A strategy chooses which card to play, and which value to give an Ace, in
+ * the current state of a game. Implementations are expected to be
+ * allocation-free per decision and to return before the given deadline;
+ * strategies that search should use the remaining time as their budget.
+ * A strategy may be shared by several players as long as it keeps no
+ * mutable state between decisions.
+ * </p>
+ *
+ * @see edu.univalle.cincuentazo.model.MachinePlayer
+ * @see Move
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface Strategy {
+
+    /**
+     * Plays the first card of the hand that keeps the sum within the limit.
+     * This is the historical behavior of the machine players.
+     */
+    Strategy FIRST_PLAYABLE = (game, player, deadline) ->
+            Move.of(CardSet.first(player.getHandSet().bits() & game.playableMask()));
+
+    /**
+     * Chooses the move of the given player.
+     *
+     * @param game     the current game
+     * @param player   the player that must move
+     * @param deadline the {@link System#nanoTime()} value by which the decision must be made
+     * @return the chosen move, or null if the player cannot play
+     */
+    Move chooseMove(Game game, IPlayer player, long deadline);
+}
@@ -0,0 +1,156 @@
+package edu.univalle.cincuentazo.replay;
+
+import edu.univalle.cincuentazo.log.GameLog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads a recording file through memory-mapped buffers.
+ * <p>
+ * Opening the reader maps the file and indexes its records by reading only
+ * their headers: each header holds the length of its record, so finding the
+ * games of a file costs one read per game whatever their length. Games are
+ * then read in place, without copying, which lets analyses scan millions of
+ * recorded games at the speed of the page cache.
+ * </p>
+ *
+ * <p>
+ * Files larger than one mapping are split into consecutive segments that
+ * always start at a record, so no record straddles two segments. A last
+ * record cut short, as left by an interrupted writer, is ignored.
+ * </p>
+ *
+ * @see GameRecordWriter
+ * @see RecordedGame
+ * @since 1.0
+ */
+public final class GameRecordReader implements Closeable {
+
+    /** Maximum size of one mapped segment. */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+    /** Segment of each game. */
+    private int[] gameSegments = new int[1024];
+
+    /** Offset of each game in its segment. */
+    private int[] gameOffsets = new int[1024];
+
+    private int gameCount;
+
+    /**
+     * Opens and indexes a recording file.
+     *
+     * @param file the recording file
+     * @throws IOException if the file cannot be read or holds an invalid record
+     */
+    public GameRecordReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            index();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of games in the file.
+     *
+     * @return the game count
+     */
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Returns a game of the file.
+     *
+     * @param index the index of the game, in file order
+     * @return a view of the recorded game
+     * @throws IndexOutOfBoundsException if there is no such game
+     */
+    public RecordedGame getGame(int index) {
+        if (index < 0 || index >= gameCount) {
+            throw new IndexOutOfBoundsException("No existe la partida " + index);
+        }
+        MappedByteBuffer segment = segments.get(gameSegments[index]);
+        int offset = gameOffsets[index];
+        int length = segment.getInt(offset + RecordFormat.LENGTH_OFFSET);
+        return new RecordedGame(segment.slice(offset, length));
+    }
+
+    /**
+     * Closes the file. Games obtained from this reader must not be used afterwards.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Maps the file and records where every game starts.
+     */
+    private void index() throws IOException {
+        long size = channel.size();
+        long segmentStart = 0;
+        while (segmentStart < size) {
+            long segmentLength = Math.min(SEGMENT_SIZE, size - segmentStart);
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentLength);
+            int segmentIndex = segments.size();
+            segments.add(segment);
+
+            int offset = 0;
+            while (offset < segmentLength) {
+                long position = segmentStart + offset;
+                if (segmentLength - offset < RecordFormat.HEADER_SIZE) {
+                    break;
+                }
+                if (segment.getInt(offset) != RecordFormat.MAGIC
+                        || segment.get(offset + RecordFormat.VERSION_OFFSET) != RecordFormat.VERSION) {
+                    throw new IOException("Registro inválido en la posición " + position);
+                }
+                int length = segment.getInt(offset + RecordFormat.LENGTH_OFFSET);
+                if (length < RecordFormat.HEADER_SIZE || length > SEGMENT_SIZE) {
+                    throw new IOException("Longitud de registro inválida en la posición " + position);
+                }
+                if (length > segmentLength - offset) {
+                    break;
+                }
+                addGame(segmentIndex, offset);
+                offset += length;
+            }
+
+            if (offset == 0 || segmentStart + segmentLength == size) {
+                if (segmentStart + offset < size) {
+                    GameLog.warn("Se ignoró un registro incompleto al final de la grabación ({} bytes).",
+                            size - segmentStart - offset);
+                }
+                return;
+            }
+            segmentStart += offset;
+        }
+    }
+
+    private void addGame(int segment, int offset) {
+        if (gameCount == gameOffsets.length) {
+            gameSegments = Arrays.copyOf(gameSegments, gameCount * 2);
+            gameOffsets = Arrays.copyOf(gameOffsets, gameCount * 2);
+        }
+        gameSegments[gameCount] = segment;
+        gameOffsets[gameCount] = offset;
+        gameCount++;
+    }
+}
@@ -0,0 +1,114 @@
+package edu.univalle.cincuentazo.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends recorded games to a recording file.
+ * <p>
+ * The file is opened in append mode through a {@link FileChannel}, so
+ * existing games are never rewritten and several runs can share one file.
+ * Records are copied into a direct buffer and written to the channel when
+ * the buffer fills up, on {@link #flush()} and on {@link #close()}. Each
+ * record is appended whole, so a file cut short by a crash only loses its
+ * last, incomplete record, which {@link GameRecordReader} skips.
+ * </p>
+ *
+ * <p>
+ * The writer is thread-safe: recorders of games running on different threads
+ * can share it.
+ * </p>
+ *
+ * @see GameRecorder
+ * @see GameRecordReader
+ * @since 1.0
+ */
+public final class GameRecordWriter implements Closeable {
+
+    /** Size of the write buffer. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /** Number of records appended by this writer. */
+    private long recordCount;
+
+    /**
+     * Opens a recording file for appending, creating it if needed.
+     *
+     * @param file the recording file
+     * @throws IOException if the file cannot be opened
+     */
+    public GameRecordWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Appends one record.
+     *
+     * @param record the record, from its position to its limit
+     * @throws IOException if writing fails
+     */
+    public synchronized void append(ByteBuffer record) throws IOException {
+        if (record.remaining() > buffer.remaining()) {
+            drain();
+        }
+        if (record.remaining() > buffer.capacity()) {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } else {
+            buffer.put(record);
+        }
+        recordCount++;
+    }
+
+    /**
+     * Returns the number of records appended by this writer.
+     *
+     * @return the record count
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Writes every buffered record to the file.
+     *
+     * @throws IOException if writing fails
+     */
+    public synchronized void flush() throws IOException {
+        drain();
+    }
+
+    /**
+     * Writes the buffered records and closes the file.
+     *
+     * @throws IOException if writing or closing fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            buffer.compact();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package edu.univalle.cincuentazo.replay;
+
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.GameEngine;
+import edu.univalle.cincuentazo.model.GameListener;
+import edu.univalle.cincuentazo.model.GameSnapshot;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.Move;
+import edu.univalle.cincuentazo.model.RuleSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Records one game as its seed and a packed stream of moves.
+ * <p>
+ * The recorder listens to the game driven by an engine and stores one byte
+ * per turn. Every {@code keyframeInterval} turns, and after every turn in
+ * which the deck was refilled, it also stores a {@link GameSnapshot} of the
+ * engine: refills are shuffled with the game's random generator, which the
+ * move stream does not capture, so the keyframe taken after a refill is what
+ * lets a replay continue past it. When the game is over the whole record is
+ * appended to the writer.
+ * </p>
+ *
+ * <p>
+ * The game must have been dealt by a {@code SplittableRandom} created with
+ * the given seed, for example with {@link Game#Game(int, long)}, and
+ * its turns must be ended with {@link GameEngine#endTurn()}. If the state of
+ * the game is replaced, by a new round or a restored snapshot, the recording
+ * is abandoned. Register the recorder with {@link Game#addListener} right
+ * after creating the game:
+ * </p>
+ *
+ * <pre>{@code
+ * GameEngine engine = new GameEngine(new Game(3, seed));
+ * engine.getGame().addListener(new GameRecorder(engine, seed, writer));
+ * engine.playToEnd();
+ * }</pre>
+ *
+ * @see GameRecordWriter
+ * @see RecordedGame
+ * @since 1.0
+ */
+public final class GameRecorder implements GameListener {
+
+    /** Turns between two periodic keyframes, by default. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 32;
+
+    private final GameEngine engine;
+    private final long seed;
+    private final GameRecordWriter writer;
+    private final int keyframeInterval;
+    private final GameSnapshot scratch;
+
+    /** Move code of each turn. */
+    private byte[] moves = new byte[64];
+    private int turns;
+
+    /** Move code of the turn in progress. */
+    private byte pendingMove = RecordFormat.PASS;
+
+    /** Whether the deck was refilled during the turn in progress. */
+    private boolean recycled;
+
+    /** Turn and offset (relative to the keyframe data) of each keyframe. */
+    private int[] directory = new int[16];
+    private int keyframeCount;
+
+    /** Encoded keyframes. */
+    private ByteBuffer keyframes = ByteBuffer.allocate(4 * GameSnapshot.MAX_ENCODED_SIZE);
+
+    /** Whether the record was written or abandoned. */
+    private boolean finished;
+
+    /**
+     * Constructs a recorder with the default keyframe interval.
+     *
+     * @param engine the engine driving the recorded game
+     * @param seed   the seed the game was dealt with
+     * @param writer the destination of the record
+     */
+    public GameRecorder(GameEngine engine, long seed, GameRecordWriter writer) {
+        this(engine, seed, writer, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Constructs a recorder.
+     *
+     * @param engine           the engine driving the recorded game
+     * @param seed             the seed the game was dealt with
+     * @param writer           the destination of the record
+     * @param keyframeInterval the turns between two periodic keyframes
+     * @throws IllegalArgumentException if the interval is not positive, or the game
+     *                                  does not follow the standard rules
+     */
+    public GameRecorder(GameEngine engine, long seed, GameRecordWriter writer, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("El intervalo entre fotogramas clave debe ser positivo.");
+        }
+        // El formato no guarda las reglas: la repetición reparte con las estándar
+        RuleSet rules = engine.getGame().getRules();
+        if (!rules.equals(RuleSet.STANDARD.withSeats(rules.getSeats()))) {
+            throw new IllegalArgumentException("Solo se pueden grabar partidas con las reglas estándar.");
+        }
+        this.engine = engine;
+        this.seed = seed;
+        this.writer = writer;
+        this.keyframeInterval = keyframeInterval;
+        this.scratch = new GameSnapshot(engine.getGame().getPlayers().size());
+    }
+
+    /**
+     * Returns the number of turns recorded so far.
+     *
+     * @return the turn count
+     */
+    public int getTurnCount() {
+        return turns;
+    }
+
+    /**
+     * Returns the number of keyframes recorded so far.
+     *
+     * @return the keyframe count
+     */
+    public int getKeyframeCount() {
+        return keyframeCount;
+    }
+
+    @Override
+    public void onCardPlayed(Game game, IPlayer player, Card card, int value, int tableSum) {
+        pendingMove = RecordFormat.encode(Move.of(card, value, game.getRules()));
+    }
+
+    @Override
+    public void onDeckRecycled(Game game, int cards) {
+        recycled = true;
+    }
+
+    @Override
+    public void onTurnEnded(Game game, IPlayer player, int turn) {
+        if (finished) return;
+        if (turns == moves.length) {
+            moves = Arrays.copyOf(moves, turns * 2);
+        }
+        moves[turns++] = pendingMove;
+        pendingMove = RecordFormat.PASS;
+        if (recycled || turns % keyframeInterval == 0) {
+            addKeyframe();
+        }
+        recycled = false;
+    }
+
+    @Override
+    public void onGameOver(Game game, IPlayer winner) {
+        if (finished) return;
+        finished = true;
+        try {
+            writer.append(toRecord(winner == null ? -1 : game.getPlayers().indexOf(winner)));
+        } catch (IOException e) {
+            GameLog.error("No se pudo guardar la grabación de la partida: {}", e);
+        }
+    }
+
+    @Override
+    public void onStateReplaced(Game game) {
+        if (!finished) {
+            finished = true;
+            GameLog.debug("Grabación abandonada tras {} turnos: el estado del juego fue reemplazado.", turns);
+        }
+    }
+
+    /**
+     * Stores a snapshot of the engine after the current turn.
+     */
+    private void addKeyframe() {
+        engine.snapshot(scratch);
+        if (keyframes.remaining() < scratch.encodedSize()) {
+            keyframes = ByteBuffer.allocate(keyframes.capacity() * 2).put(keyframes.flip());
+        }
+        if (2 * keyframeCount + 2 > directory.length) {
+            directory = Arrays.copyOf(directory, directory.length * 2);
+        }
+        directory[2 * keyframeCount] = turns;
+        directory[2 * keyframeCount + 1] = keyframes.position();
+        keyframeCount++;
+        scratch.writeTo(keyframes);
+    }
+
+    /**
+     * Builds the record of the game.
+     *
+     * @param winnerSeat the seat of the winner, or -1
+     * @return the record, ready to be read
+     */
+    private ByteBuffer toRecord(int winnerSeat) {
+        int dataStart = RecordFormat.HEADER_SIZE + turns + keyframeCount * RecordFormat.DIRECTORY_ENTRY_SIZE;
+        int length = dataStart + keyframes.position();
+        ByteBuffer record = ByteBuffer.allocate(length);
+        record.putInt(RecordFormat.MAGIC)
+                .putInt(length)
+                .put(RecordFormat.VERSION)
+                .put((byte) scratch.getSeats())
+                .put((byte) winnerSeat)
+                .putLong(seed)
+                .putInt(turns)
+                .putInt(keyframeCount)
+                .put(moves, 0, turns);
+        for (int i = 0; i < keyframeCount; i++) {
+            record.putInt(directory[2 * i]).putInt(dataStart + directory[2 * i + 1]);
+        }
+        record.put(keyframes.flip());
+        return record.flip();
+    }
+}
@@ -0,0 +1,85 @@
+package edu.univalle.cincuentazo.replay;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.Move;
+
+/**
+ * Layout of a recorded game.
+ * <p>
+ * A recording file is a plain concatenation of self-contained records, one
+ * per game. Every record starts with a fixed header, followed by one move
+ * code per turn, the keyframe directory and the keyframes themselves:
+ * </p>
+ *
+ * <pre>
+ * int   magic ("C50G")
+ * int   length of the whole record in bytes
+ * byte  version
+ * byte  seats
+ * byte  winner seat, or -1
+ * long  seed of the game
+ * int   turns
+ * int   keyframes
+ * byte  move code of each turn
+ * (int turn, int offset) of each keyframe, in turn order
+ * GameSnapshot encoding of each keyframe
+ * </pre>
+ *
+ * <p>
+ * A move code is the card ordinal, plus {@link #ACE_HIGH} when an Ace is
+ * played with its high value, or {@link #PASS} when the player did not
+ * play. Keyframe offsets are relative to the start of the record. All values
+ * are big-endian.
+ * </p>
+ *
+ * @since 1.0
+ */
+final class RecordFormat {
+
+    static final int MAGIC = 0x43353047;
+    static final byte VERSION = 1;
+
+    static final int LENGTH_OFFSET = 4;
+    static final int VERSION_OFFSET = 8;
+    static final int SEATS_OFFSET = 9;
+    static final int WINNER_OFFSET = 10;
+    static final int SEED_OFFSET = 11;
+    static final int TURNS_OFFSET = 19;
+    static final int KEYFRAMES_OFFSET = 23;
+    static final int HEADER_SIZE = 27;
+
+    /** Bytes of each entry of the keyframe directory. */
+    static final int DIRECTORY_ENTRY_SIZE = 8;
+
+    /** Move code of a turn without a play. */
+    static final byte PASS = 0x7F;
+
+    /** Flag of a move code that plays an Ace with its high value. */
+    static final int ACE_HIGH = 0x40;
+
+    private RecordFormat() {
+    }
+
+    /**
+     * Returns the move code of a play.
+     *
+     * @param move the move played
+     * @return the move code
+     */
+    static byte encode(Move move) {
+        int ordinal = move.getCard().ordinal();
+        return (byte) (move.isHighAce() ? ordinal | ACE_HIGH : ordinal);
+    }
+
+    /**
+     * Returns the move of a move code.
+     *
+     * @param code the move code
+     * @return the move, or null for {@link #PASS}
+     */
+    static Move decode(int code) {
+        if (code == PASS) return null;
+        Card card = Card.fromOrdinal(code & ~ACE_HIGH);
+        return (code & ACE_HIGH) != 0 ? Move.ofAce(card, true) : Move.of(card);
+    }
+}
@@ -0,0 +1,198 @@
+package edu.univalle.cincuentazo.replay;
+
+import edu.univalle.cincuentazo.exceptions.DeckEmptyException;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.GameEngine;
+import edu.univalle.cincuentazo.model.GameSnapshot;
+import edu.univalle.cincuentazo.model.Move;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A recorded game, read in place from a recording file.
+ * <p>
+ * The header and the moves are read straight from the mapped file, so bulk
+ * analyses can scan the moves and results of many games without building
+ * any game state. To inspect the state at a given turn, {@link #seek} restores
+ * the nearest keyframe at or before the turn, or deals the game again from
+ * its seed, and re-applies the recorded moves from there.
+ * </p>
+ *
+ * @see GameRecordReader#getGame(int)
+ * @since 1.0
+ */
+public final class RecordedGame {
+
+    /** The record, from its first byte. */
+    private final ByteBuffer record;
+
+    /** State after the deal, dealt on first use. */
+    private GameSnapshot initial;
+
+    RecordedGame(ByteBuffer record) {
+        this.record = record;
+    }
+
+    /**
+     * Returns the seed the game was dealt with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return record.getLong(RecordFormat.SEED_OFFSET);
+    }
+
+    /**
+     * Returns the number of players of the game.
+     *
+     * @return the number of seats
+     */
+    public int getSeats() {
+        return record.get(RecordFormat.SEATS_OFFSET);
+    }
+
+    /**
+     * Returns the seat of the winner.
+     *
+     * @return the seat index, or -1 if the last players were eliminated together
+     */
+    public int getWinnerSeat() {
+        return record.get(RecordFormat.WINNER_OFFSET);
+    }
+
+    /**
+     * Returns the number of turns of the game.
+     *
+     * @return the turn count
+     */
+    public int getTurnCount() {
+        return record.getInt(RecordFormat.TURNS_OFFSET);
+    }
+
+    /**
+     * Returns the number of keyframes of the record.
+     *
+     * @return the keyframe count
+     */
+    public int getKeyframeCount() {
+        return record.getInt(RecordFormat.KEYFRAMES_OFFSET);
+    }
+
+    /**
+     * Returns the move played in a turn.
+     *
+     * @param turn the turn, from 0
+     * @return the move, or null if the player passed
+     * @throws IndexOutOfBoundsException if the turn is not in the game
+     */
+    public Move getMove(int turn) {
+        if (turn < 0 || turn >= getTurnCount()) {
+            throw new IndexOutOfBoundsException("Turno fuera de la partida: " + turn);
+        }
+        return RecordFormat.decode(record.get(RecordFormat.HEADER_SIZE + turn));
+    }
+
+    /**
+     * Returns the size of the record in the file.
+     *
+     * @return the record length in bytes
+     */
+    public int getRecordLength() {
+        return record.getInt(RecordFormat.LENGTH_OFFSET);
+    }
+
+    /**
+     * Creates an engine for replaying this game, positioned before the first turn.
+     *
+     * @return a new engine
+     */
+    public GameEngine newEngine() {
+        return new GameEngine(new Game(getSeats() - 1, getSeed()));
+    }
+
+    /**
+     * Creates an engine positioned after the given number of turns.
+     *
+     * @param turn the number of turns to replay
+     * @return a new engine
+     * @see #seek(GameEngine, int)
+     */
+    public GameEngine replayTo(int turn) {
+        GameEngine engine = newEngine();
+        seek(engine, turn);
+        return engine;
+    }
+
+    /**
+     * Moves an engine to the state after the given number of turns.
+     * <p>
+     * The engine is restored from the nearest keyframe at or before the turn,
+     * so at most one keyframe interval of moves is re-applied. The engine
+     * must have the number of seats of this game.
+     * </p>
+     *
+     * @param engine the engine to move
+     * @param turn   the number of turns played, from 0 to {@link #getTurnCount()}
+     * @throws IndexOutOfBoundsException if the turn is not in the game
+     */
+    public void seek(GameEngine engine, int turn) {
+        if (turn < 0 || turn > getTurnCount()) {
+            throw new IndexOutOfBoundsException("Turno fuera de la partida: " + turn);
+        }
+        int keyframe = findKeyframe(turn);
+        if (keyframe < 0) {
+            if (initial == null) {
+                initial = newEngine().snapshot();
+            }
+            engine.restore(initial);
+        } else {
+            int offset = record.getInt(directoryOffset(keyframe) + 4);
+            engine.restore(GameSnapshot.readFrom(record.duplicate().position(offset)));
+        }
+        while (engine.getTurnCount() < turn) {
+            replayTurn(engine);
+        }
+    }
+
+    /**
+     * Plays the next recorded turn on an engine and ends it.
+     *
+     * @param engine the engine, positioned inside this game
+     * @return the move played, or null if the player passed
+     */
+    public Move replayTurn(GameEngine engine) {
+        Move move = getMove(engine.getTurnCount());
+        try {
+            engine.playMove(move);
+        } catch (DeckEmptyException e) {
+            // La partida original tampoco pudo robar en este turno
+        }
+        engine.endTurn();
+        return move;
+    }
+
+    /**
+     * Returns the last keyframe at or before the given turn.
+     *
+     * @return the keyframe index, or -1 if there is none
+     */
+    private int findKeyframe(int turn) {
+        int low = 0;
+        int high = getKeyframeCount() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (record.getInt(directoryOffset(mid)) <= turn) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private int directoryOffset(int keyframe) {
+        return RecordFormat.HEADER_SIZE + getTurnCount() + keyframe * RecordFormat.DIRECTORY_ENTRY_SIZE;
+    }
+}
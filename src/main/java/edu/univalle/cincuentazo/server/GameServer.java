@@ -0,0 +1,387 @@
+package edu.univalle.cincuentazo.server;
+
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.model.Card;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headless server that hosts many concurrent tables of Cincuentazo.
+ * <p>
+ * One selector thread accepts the connections and reads and writes every
+ * socket without blocking. Each table is a {@link Table} actor with its own
+ * bounded inbox, run on a shared pool of worker threads, so thousands of
+ * tables only cost memory while they wait for their players. Every client
+ * plays the human seat of its own table against one to three
+ * {@link edu.univalle.cincuentazo.model.MachinePlayer} seats.
+ * </p>
+ *
+ * <p>
+ * The protocol is line based, in UTF-8. The client sends:
+ * </p>
+ * <ul>
+ *     <li>{@code JOIN <name> <machines>}: sits at a new table</li>
+ *     <li>{@code PLAY <card> [1|10]}: plays a card, such as {@code H05}; Aces may give their value</li>
+ *     <li>{@code DRAW}: draws after playing and ends the turn</li>
+ *     <li>{@code QUIT}: closes the connection</li>
+ * </ul>
+ * <p>
+ * and receives {@code WELCOME <session> <table> <seats>},
+ * {@code TURN <sum> <cards...>} when it is its turn,
+ * {@code PLAYED <seat> <card> <value> <sum>}, {@code DRAWN <card>},
+ * {@code ELIMINATED <seat>}, {@code GAMEOVER <seat|-1>} and
+ * {@code ERROR <message>}. The human is always seat 0. After
+ * {@code GAMEOVER} the client may join a new table.
+ * </p>
+ *
+ * <p>
+ * Backpressure works in both directions: when the inbox of a table is full
+ * the server stops reading its client until the table catches up, and a
+ * client that does not read its messages is disconnected.
+ * </p>
+ *
+ * @see Table
+ * @since 1.0
+ */
+public final class GameServer implements Closeable {
+
+    private final int requestedPort;
+    private final ForkJoinPool workers;
+    private final SplittableRandom seeds;
+
+    private ServerSocketChannel serverChannel;
+    private Selector selector;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    /** Sessions whose interest set or state must be updated by the selector thread. */
+    private final Queue<Session> pending = new ConcurrentLinkedQueue<>();
+
+    /** Sessions to disconnect, handled by the selector thread. */
+    private final Queue<Session> closing = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong nextSessionId = new AtomicLong(1);
+    private final AtomicLong nextTableId = new AtomicLong(1);
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final AtomicInteger activeTables = new AtomicInteger();
+    private final LongAdder finishedGames = new LongAdder();
+    private final LongAdder abandonedGames = new LongAdder();
+
+    /**
+     * Constructs a server.
+     *
+     * @param port    the TCP port to listen on, or 0 for any free port
+     * @param workers the number of threads that run the tables
+     * @param seed    the seed from which the seed of every table is drawn
+     * @throws IllegalArgumentException if there are no workers
+     */
+    public GameServer(int port, int workers, long seed) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo de trabajo.");
+        }
+        this.requestedPort = port;
+        this.workers = new ForkJoinPool(workers, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Runs a server until the process is stopped.
+     * <p>
+     * Arguments: the port (default 5050) and the number of worker threads
+     * (default, the number of cores).
+     * </p>
+     *
+     * @param args the command line arguments
+     * @throws IOException if the port cannot be opened
+     * @throws InterruptedException if the main thread is interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 5050;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        GameServer server = new GameServer(port, workers, System.nanoTime());
+        server.start();
+        server.selectorThread.join();
+    }
+
+    /**
+     * Starts listening on the loopback interface.
+     *
+     * @throws IOException if the port cannot be opened
+     */
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress("127.0.0.1", requestedPort), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        selectorThread = new Thread(this::selectLoop, "cincuentazo-server");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        GameLog.info("Servidor escuchando en el puerto {}", getPort());
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Returns the number of connected clients.
+     *
+     * @return the session count
+     */
+    public int getSessionCount() {
+        return sessions.get();
+    }
+
+    /**
+     * Returns the number of tables being played.
+     *
+     * @return the active table count
+     */
+    public int getActiveTableCount() {
+        return activeTables.get();
+    }
+
+    /**
+     * Returns the number of games played to the end.
+     *
+     * @return the finished game count
+     */
+    public long getFinishedGameCount() {
+        return finishedGames.sum();
+    }
+
+    /**
+     * Returns the number of games abandoned by their player.
+     *
+     * @return the abandoned game count
+     */
+    public long getAbandonedGameCount() {
+        return abandonedGames.sum();
+    }
+
+    /**
+     * Stops accepting clients, disconnects every session and stops the workers.
+     *
+     * @throws IOException if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+            try {
+                selectorThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers.shutdownNow();
+    }
+
+    // ---------------------------
+    // Llamadas desde las sesiones y las mesas
+
+    /**
+     * Asks the selector thread to update a session.
+     */
+    void schedule(Session session) {
+        pending.add(session);
+        selector.wakeup();
+    }
+
+    /**
+     * Asks the selector thread to disconnect a session.
+     */
+    void requestClose(Session session, String reason) {
+        GameLog.debug("Cerrando la sesión {}: {}", session.getId(), reason);
+        closing.add(session);
+        selector.wakeup();
+    }
+
+    /**
+     * Called by a table when its game ends or is abandoned.
+     */
+    void tableClosed(Table table, boolean finished) {
+        activeTables.decrementAndGet();
+        if (finished) {
+            finishedGames.increment();
+        } else {
+            abandonedGames.increment();
+        }
+    }
+
+    /**
+     * Handles one line received from a client. Called on the selector thread.
+     *
+     * @return false if the table inbox was full and the line must be retried later
+     */
+    boolean dispatch(Session session, String line) {
+        String[] words = line.trim().split("\\s+");
+        Table table = session.getTable();
+        switch (words[0]) {
+            case "JOIN" -> join(session, words);
+            case "PLAY" -> {
+                if (table == null) {
+                    session.send("ERROR no estás en una mesa");
+                    return true;
+                }
+                Card card = parseCard(words);
+                int value = words.length > 2 ? parseInt(words[2]) : 0;
+                if (card == null || value < 0) {
+                    session.send("ERROR uso: PLAY <carta> [1|10]");
+                    return true;
+                }
+                return table.offer(() -> table.play(card, value));
+            }
+            case "DRAW" -> {
+                if (table == null) {
+                    session.send("ERROR no estás en una mesa");
+                    return true;
+                }
+                return table.offer(table::draw);
+            }
+            case "QUIT" -> requestClose(session, "el cliente se despidió");
+            default -> session.send("ERROR comando desconocido: " + words[0]);
+        }
+        return true;
+    }
+
+    private void join(Session session, String[] words) {
+        Table current = session.getTable();
+        if (current != null) {
+            current.post(current::leave);
+        }
+        int machines = words.length == 3 ? parseInt(words[2]) : -1;
+        if (machines < 1 || machines > 3) {
+            session.send("ERROR uso: JOIN <nombre> <máquinas 1-3>");
+            return;
+        }
+        Table table = new Table(nextTableId.getAndIncrement(), this, workers, session,
+                words[1], machines, seeds.nextLong());
+        activeTables.incrementAndGet();
+        session.setTable(table);
+        table.post(table::start);
+    }
+
+    private static Card parseCard(String[] words) {
+        if (words.length < 2 || words.length > 3) return null;
+        try {
+            return Card.valueOf(words[1]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int parseInt(String word) {
+        try {
+            return Integer.parseInt(word);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // ---------------------------
+    // Hilo del selector
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Session session;
+                while ((session = pending.poll()) != null) {
+                    session.updateInterest();
+                }
+                while ((session = closing.poll()) != null) {
+                    disconnect(session);
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            }
+        } catch (IOException e) {
+            GameLog.error("El servidor se detuvo por un error: {}", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Session session) {
+                    disconnect(session);
+                }
+            }
+            try {
+                serverChannel.close();
+                selector.close();
+            } catch (IOException e) {
+                GameLog.warn("No se pudo cerrar el servidor: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) return;
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Session session = (Session) key.attachment();
+        try {
+            if (key.isReadable() && !session.onReadable()) {
+                disconnect(session);
+                return;
+            }
+            if (key.isValid() && key.isWritable()) {
+                session.onWritable();
+            }
+        } catch (IOException e) {
+            GameLog.debug("Sesión {} perdida: {}", session.getId(), e.getMessage());
+            disconnect(session);
+        }
+    }
+
+    private void accept() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                Session session = new Session(nextSessionId.getAndIncrement(), this, channel);
+                session.register(channel.register(selector, SelectionKey.OP_READ, session));
+                sessions.incrementAndGet();
+            }
+        } catch (IOException e) {
+            GameLog.warn("No se pudo aceptar una conexión: {}", e.getMessage());
+        }
+    }
+
+    private void disconnect(Session session) {
+        if (session.isClosed()) return;
+        session.close();
+        sessions.decrementAndGet();
+        Table table = session.getTable();
+        if (table != null) {
+            table.post(table::leave);
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package edu.univalle.cincuentazo.server;
+
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.RuleSet;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic load for a {@link GameServer}: thousands of simulated human
+ * players on the loopback interface.
+ * <p>
+ * Every client joins a table against one to three machines and plays its
+ * games to the end with the rules of {@link RuleSet#STANDARD}, the same
+ * ones the server enforces in {@code Game.playCard}: on each turn it plays
+ * a random card that keeps the table within the limit, gives Aces a random
+ * legal value, and then draws. When a game ends it joins a new table until
+ * it has played its share.
+ * </p>
+ *
+ * <p>
+ * All clients are driven by one thread with a {@link Selector}, so the
+ * generator costs far less than the server it measures, and connections
+ * are opened a few at a time to stay within the server's accept backlog.
+ * The latency of every command, from sending it to the first line of the
+ * answer, is kept in a log-linear histogram whose buckets are within 6% of
+ * the values they hold. Because the generator waits for each answer before
+ * sending the next command, a stalled server delays the following commands
+ * instead of piling them up, so latencies under saturation are understated.
+ * </p>
+ *
+ * @see LoadReport
+ * @since 1.0
+ */
+public final class LoadGenerator {
+
+    /** Maximum number of connections being opened at the same time. */
+    private static final int MAX_CONNECTING = 128;
+
+    /** Size of the input and output buffers of a client. */
+    private static final int BUFFER_SIZE = 4096;
+
+    // Estados de un cliente
+    private static final int IDLE = 0;
+    private static final int PLAY_SENT = 1;
+    private static final int DRAW_SENT = 2;
+
+    private final int port;
+    private final int clients;
+    private final int gamesPerClient;
+    private final SplittableRandom random;
+    private final RuleSet rules = RuleSet.STANDARD;
+
+    // Estadísticas de una ejecución: solo las toca el hilo del selector
+    private final Histogram latencies = new Histogram();
+    private long games;
+    private long commands;
+    private long errors;
+    private long emptyDeckDraws;
+    private int failedClients;
+    private int closedClients;
+    private int connecting;
+
+    /**
+     * Constructs a load generator.
+     *
+     * @param port           the port of a server listening on the loopback interface
+     * @param clients        the number of simulated clients
+     * @param gamesPerClient the number of games each client plays
+     * @param seed           the seed of the clients' choices
+     * @throws IllegalArgumentException if there are no clients or no games
+     */
+    public LoadGenerator(int port, int clients, int gamesPerClient, long seed) {
+        if (clients < 1 || gamesPerClient < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un cliente y un juego por cliente.");
+        }
+        this.port = port;
+        this.clients = clients;
+        this.gamesPerClient = gamesPerClient;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Runs a load test and logs its report.
+     * <p>
+     * Arguments: the number of clients (default 1000), the games per client
+     * (default 5) and the port of the server (default 0, which starts a server
+     * in this process with one worker per core). Each client uses one file
+     * descriptor, and two more when the server runs in the same process.
+     * </p>
+     *
+     * @param args the command line arguments
+     * @throws IOException if the server cannot be started or reached
+     */
+    public static void main(String[] args) throws IOException {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+        GameServer server = null;
+        if (port == 0) {
+            server = new GameServer(0, Runtime.getRuntime().availableProcessors(), System.nanoTime());
+            server.start();
+            port = server.getPort();
+        }
+        try {
+            LoadReport report = new LoadGenerator(port, clients, games, System.nanoTime()).run(600_000);
+            GameLog.info("{}", report);
+        } finally {
+            if (server != null) server.close();
+        }
+    }
+
+    /**
+     * Connects every client and plays until all of them have finished or the time is up.
+     * <p>
+     * Clients still playing at the deadline are counted as failed.
+     * A generator runs once.
+     * </p>
+     *
+     * @param timeoutMillis the maximum duration of the run
+     * @return the report of the run
+     * @throws IOException if the selector cannot be opened
+     * @throws IllegalStateException if the generator already ran
+     */
+    public LoadReport run(long timeoutMillis) throws IOException {
+        if (closedClients > 0) {
+            throw new IllegalStateException("El generador de carga ya se ejecutó.");
+        }
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        Client[] all = new Client[clients];
+        long start = System.nanoTime();
+        long deadline = start + timeoutMillis * 1_000_000L;
+
+        try (Selector selector = Selector.open()) {
+            int opened = 0;
+            while (closedClients < clients && System.nanoTime() < deadline) {
+                while (opened < clients && connecting < MAX_CONNECTING) {
+                    all[opened] = open(selector, address, opened);
+                    opened++;
+                }
+                selector.select(100);
+                long now = System.nanoTime();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    ((Client) key.attachment()).handle(key, now);
+                }
+            }
+        }
+        for (Client client : all) {
+            if (client != null && !client.closed) {
+                client.close(true);
+            }
+        }
+        // Los que ni siquiera se abrieron también fallaron
+        failedClients += clients - closedClients;
+        return new LoadReport(clients, games, commands, errors, emptyDeckDraws, failedClients,
+                latencies.quantile(0.50), latencies.quantile(0.99), latencies.quantile(0.999),
+                latencies.max, System.nanoTime() - start);
+    }
+
+    private Client open(Selector selector, InetSocketAddress address, int index) {
+        Client client = new Client(index, random.split());
+        try {
+            SocketChannel channel = SocketChannel.open();
+            client.channel = channel;
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            connecting++;
+            client.connecting = true;
+            boolean connected = channel.connect(address);
+            client.key = channel.register(selector, connected ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT, client);
+            if (connected) client.onConnected();
+        } catch (IOException e) {
+            GameLog.debug("El cliente {} no pudo conectarse: {}", index, e.getMessage());
+            client.close(true);
+        }
+        return client;
+    }
+
+    /**
+     * One simulated human player.
+     */
+    private final class Client {
+
+        final int index;
+        final SplittableRandom choices;
+        SocketChannel channel;
+        SelectionKey key;
+
+        /** Bytes received and not yet processed, in write mode. */
+        final ByteBuffer in = ByteBuffer.allocate(BUFFER_SIZE);
+
+        /** Bytes waiting to be sent, in write mode. */
+        final ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE);
+
+        boolean connecting;
+        boolean closed;
+        int state = IDLE;
+        long sentAt;
+        int gamesLeft = gamesPerClient;
+
+        Client(int index, SplittableRandom choices) {
+            this.index = index;
+            this.choices = choices;
+        }
+
+        void onConnected() throws IOException {
+            connecting = false;
+            LoadGenerator.this.connecting--;
+            join();
+        }
+
+        void handle(SelectionKey key, long now) {
+            if (closed || !key.isValid()) return;
+            try {
+                if (key.isConnectable() && channel.finishConnect()) {
+                    key.interestOps(SelectionKey.OP_READ);
+                    onConnected();
+                }
+                if (key.isValid() && key.isReadable()) {
+                    read(now);
+                }
+                if (!closed && key.isValid() && key.isWritable()) {
+                    flush();
+                }
+            } catch (IOException e) {
+                GameLog.debug("El cliente {} perdió la conexión: {}", index, e.getMessage());
+                close(true);
+            }
+        }
+
+        private void read(long now) throws IOException {
+            if (channel.read(in) < 0) {
+                close(true);
+                return;
+            }
+            in.flip();
+            int lineStart = in.position();
+            for (int i = lineStart; i < in.limit() && !closed; i++) {
+                if (in.get(i) != '\n') continue;
+                onLine(new String(in.array(), lineStart, i - lineStart, StandardCharsets.UTF_8), now);
+                lineStart = i + 1;
+            }
+            if (closed) return;
+            in.position(lineStart);
+            in.compact();
+            if (!in.hasRemaining()) {
+                GameLog.warn("El cliente {} recibió una línea demasiado larga", index);
+                close(true);
+            }
+        }
+
+        private void onLine(String line, long now) throws IOException {
+            String[] words = line.split(" ");
+            if (state != IDLE) {
+                latencies.record(now - sentAt);
+                commands++;
+                boolean error = words[0].equals("ERROR");
+                if (state == PLAY_SENT) {
+                    state = IDLE;
+                    if (error || !words[0].equals("PLAYED")) {
+                        fail(line);
+                        return;
+                    }
+                    send("DRAW");
+                    state = DRAW_SENT;
+                    return;
+                }
+                state = IDLE;
+                if (error) {
+                    // Robar sin poder recargar el mazo es parte de las reglas
+                    if (!line.contains("mazo")) fail(line);
+                    else emptyDeckDraws++;
+                    return;
+                }
+            }
+            switch (words[0]) {
+                case "TURN" -> play(words);
+                case "GAMEOVER" -> {
+                    games++;
+                    if (--gamesLeft > 0) {
+                        join();
+                    } else {
+                        send("QUIT");
+                        close(false);
+                    }
+                }
+                case "ERROR" -> fail(line);
+                default -> {
+                    // WELCOME, PLAYED, DRAWN y ELIMINATED no piden respuesta
+                }
+            }
+        }
+
+        /**
+         * Plays a random legal card, giving an Ace a random legal value.
+         */
+        private void play(String[] words) throws IOException {
+            int sum = Integer.parseInt(words[1]);
+            int room = rules.getLimit() - sum;
+            String[] moves = new String[(words.length - 2) * 2];
+            int count = 0;
+            for (int i = 2; i < words.length; i++) {
+                Card card = Card.valueOf(words[i]);
+                if (card.isAce()) {
+                    if (rules.getAceLow() <= room) moves[count++] = card.name() + " " + rules.getAceLow();
+                    if (rules.getAceHigh() <= room) moves[count++] = card.name() + " " + rules.getAceHigh();
+                } else if (rules.getCardValue(card) <= room) {
+                    moves[count++] = card.name();
+                }
+            }
+            if (count == 0) {
+                fail("turno sin jugadas legales: " + String.join(" ", words));
+                return;
+            }
+            send("PLAY " + moves[choices.nextInt(count)]);
+            state = PLAY_SENT;
+        }
+
+        private void join() throws IOException {
+            send("JOIN carga" + index + " " + (1 + choices.nextInt(3)));
+        }
+
+        private void send(String line) throws IOException {
+            byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > out.remaining()) {
+                throw new IOException("El servidor no lee los comandos");
+            }
+            out.put(bytes);
+            sentAt = System.nanoTime();
+            flush();
+        }
+
+        private void flush() throws IOException {
+            out.flip();
+            channel.write(out);
+            out.compact();
+            key.interestOps(out.position() > 0
+                    ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                    : SelectionKey.OP_READ);
+        }
+
+        private void fail(String reason) {
+            GameLog.warn("Error del cliente {}: {}", index, reason);
+            errors++;
+            close(true);
+        }
+
+        void close(boolean failed) {
+            if (closed) return;
+            closed = true;
+            closedClients++;
+            if (connecting) {
+                connecting = false;
+                LoadGenerator.this.connecting--;
+            }
+            if (failed) failedClients++;
+            if (key != null) key.cancel();
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    GameLog.debug("No se pudo cerrar el cliente {}: {}", index, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Log-linear latency histogram: sixteen buckets per power of two.
+     */
+    private static final class Histogram {
+
+        private static final int SUB_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+        private final long[] counts = new long[64 * SUB_BUCKETS];
+        private long total;
+        long max;
+
+        void record(long nanos) {
+            long value = Math.max(0, nanos);
+            counts[indexOf(value)]++;
+            total++;
+            max = Math.max(max, value);
+        }
+
+        long quantile(double q) {
+            long target = (long) Math.ceil(q * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target && seen > 0) return Math.min(valueOf(i), max);
+            }
+            return 0;
+        }
+
+        private static int indexOf(long value) {
+            if (value < SUB_BUCKETS) return (int) value;
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+        }
+
+        /** Returns the middle of a bucket. */
+        private static long valueOf(int index) {
+            if (index < SUB_BUCKETS) return index;
+            int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+            long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BITS);
+            return lower + ((1L << (exponent - SUB_BITS)) >> 1);
+        }
+    }
+}
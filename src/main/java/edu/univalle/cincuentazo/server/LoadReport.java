@@ -0,0 +1,163 @@
+package edu.univalle.cincuentazo.server;
+
+/**
+ * Results of a {@link LoadGenerator} run.
+ * <p>
+ * A command is a {@code PLAY} or a {@code DRAW} sent by a simulated client;
+ * its latency is the time until the first line the server sent in
+ * response. Errors are {@code ERROR} replies to legal commands, clients that
+ * lost their connection and clients that had not finished at the deadline.
+ * The replies to a draw from an empty deck that cannot be refilled are
+ * part of the rules and are counted apart.
+ * </p>
+ *
+ * @see LoadGenerator
+ * @since 1.0
+ */
+public final class LoadReport {
+
+    private final int clients;
+    private final long games;
+    private final long commands;
+    private final long errors;
+    private final long emptyDeckDraws;
+    private final int failedClients;
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final long maxLatency;
+    private final long elapsedNanos;
+
+    LoadReport(int clients, long games, long commands, long errors, long emptyDeckDraws, int failedClients,
+               long p50, long p99, long p999, long maxLatency, long elapsedNanos) {
+        this.clients = clients;
+        this.games = games;
+        this.commands = commands;
+        this.errors = errors;
+        this.emptyDeckDraws = emptyDeckDraws;
+        this.failedClients = failedClients;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.maxLatency = maxLatency;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of simulated clients.
+     *
+     * @return the client count
+     */
+    public int getClients() {
+        return clients;
+    }
+
+    /**
+     * Returns the number of games played to the end.
+     *
+     * @return the finished game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of commands answered by the server.
+     *
+     * @return the command count
+     */
+    public long getCommands() {
+        return commands;
+    }
+
+    /**
+     * Returns the number of errors.
+     *
+     * @return the error count
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the fraction of commands that failed.
+     *
+     * @return the error rate, between 0 and 1 unless no command was answered
+     */
+    public double getErrorRate() {
+        return commands == 0 ? (errors == 0 ? 0 : 1) : (double) errors / commands;
+    }
+
+    /**
+     * Returns the number of draws refused because the deck was empty.
+     *
+     * @return the empty deck draw count
+     */
+    public long getEmptyDeckDraws() {
+        return emptyDeckDraws;
+    }
+
+    /**
+     * Returns the number of clients that lost their connection or did not finish.
+     *
+     * @return the failed client count
+     */
+    public int getFailedClients() {
+        return failedClients;
+    }
+
+    /**
+     * Returns the median command latency.
+     *
+     * @return the latency in nanoseconds
+     */
+    public long getP50Nanos() {
+        return p50;
+    }
+
+    /**
+     * Returns the 99th percentile of the command latency.
+     *
+     * @return the latency in nanoseconds
+     */
+    public long getP99Nanos() {
+        return p99;
+    }
+
+    /**
+     * Returns the 99.9th percentile of the command latency.
+     *
+     * @return the latency in nanoseconds
+     */
+    public long getP999Nanos() {
+        return p999;
+    }
+
+    /**
+     * Returns the highest command latency.
+     *
+     * @return the latency in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxLatency;
+    }
+
+    /**
+     * Returns the throughput of the run.
+     *
+     * @return commands answered per second of wall-clock time
+     */
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commands * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d clientes, %d juegos, %d comandos, %.0f comandos/s%n"
+                        + "  latencia p50 %.3f ms, p99 %.3f ms, p999 %.3f ms, máx %.3f ms%n"
+                        + "  %d errores (%.4f%%), %d clientes fallidos, %d robos con el mazo vacío%n",
+                clients, games, commands, getCommandsPerSecond(),
+                p50 / 1e6, p99 / 1e6, p999 / 1e6, maxLatency / 1e6,
+                errors, 100 * getErrorRate(), failedClients, emptyDeckDraws);
+    }
+}
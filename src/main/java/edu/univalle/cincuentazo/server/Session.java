@@ -0,0 +1,210 @@
+package edu.univalle.cincuentazo.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection of one client to the {@link GameServer}.
+ * <p>
+ * Input is read and split into lines on the selector thread. Output can be
+ * sent from any thread: lines are queued and written by the selector thread
+ * when the socket accepts them. A client that lets more than
+ * {@value #MAX_QUEUED_BYTES} bytes of output pile up is disconnected, and a
+ * client whose table inbox is full stops being read until the table catches
+ * up.
+ * </p>
+ *
+ * @since 1.0
+ */
+final class Session {
+
+    /** Maximum length of an input line. */
+    static final int MAX_LINE = 1024;
+
+    /** Maximum output waiting to be written before the client is dropped. */
+    static final int MAX_QUEUED_BYTES = 256 * 1024;
+
+    private final long id;
+    private final GameServer server;
+    private final SocketChannel channel;
+    private SelectionKey key;
+
+    /** Bytes read and not yet processed; in write mode between reads. */
+    private final ByteBuffer input = ByteBuffer.allocate(MAX_LINE);
+
+    private final Queue<ByteBuffer> output = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedBytes = new AtomicInteger();
+
+    /** Whether the selector thread must update the interest set of the key. */
+    private final AtomicBoolean interestPending = new AtomicBoolean();
+
+    /** Whether reading is paused because the table inbox was full. */
+    private volatile boolean suspended;
+
+    private volatile boolean closed;
+
+    /** Table the client is seated at, or null. */
+    private volatile Table table;
+
+    Session(long id, GameServer server, SocketChannel channel) {
+        this.id = id;
+        this.server = server;
+        this.channel = channel;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    Table getTable() {
+        return table;
+    }
+
+    void setTable(Table table) {
+        this.table = table;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void register(SelectionKey key) {
+        this.key = key;
+    }
+
+    /**
+     * Queues a line for the client. May be called from any thread.
+     *
+     * @param line the line, without the line break
+     */
+    void send(String line) {
+        if (closed) return;
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        if (queuedBytes.addAndGet(bytes.length) > MAX_QUEUED_BYTES) {
+            server.requestClose(this, "el cliente no lee sus mensajes");
+            return;
+        }
+        output.add(ByteBuffer.wrap(bytes));
+        requestInterestUpdate();
+    }
+
+    /**
+     * Resumes reading after the table drained its inbox. May be called from any thread.
+     */
+    void resume() {
+        if (suspended) {
+            requestInterestUpdate();
+        }
+    }
+
+    boolean isSuspended() {
+        return suspended;
+    }
+
+    private void requestInterestUpdate() {
+        if (interestPending.compareAndSet(false, true)) {
+            server.schedule(this);
+        }
+    }
+
+    /**
+     * Applies pending changes on the selector thread: retries the input held
+     * back while suspended and updates the interest set.
+     */
+    void updateInterest() {
+        interestPending.set(false);
+        if (closed) return;
+        if (suspended) {
+            suspended = false;
+            processInput();
+        }
+        int ops = (suspended ? 0 : SelectionKey.OP_READ) | (output.isEmpty() ? 0 : SelectionKey.OP_WRITE);
+        if (key.isValid() && key.interestOps() != ops) {
+            key.interestOps(ops);
+        }
+    }
+
+    /**
+     * Reads what the client sent and dispatches every complete line.
+     * Called on the selector thread.
+     *
+     * @return false if the client closed the connection
+     * @throws IOException if reading fails
+     */
+    boolean onReadable() throws IOException {
+        if (channel.read(input) < 0) {
+            return false;
+        }
+        processInput();
+        if (!suspended && !input.hasRemaining()) {
+            server.requestClose(this, "línea demasiado larga");
+            return true;
+        }
+        if (suspended) {
+            updateInterest();
+        }
+        return true;
+    }
+
+    /**
+     * Dispatches the complete lines of the input until the table refuses one.
+     */
+    private void processInput() {
+        input.flip();
+        while (!suspended) {
+            int start = input.position();
+            int end = start;
+            while (end < input.limit() && input.get(end) != '\n') end++;
+            if (end == input.limit()) break;
+
+            int length = end > start && input.get(end - 1) == '\r' ? end - start - 1 : end - start;
+            String line = new String(input.array(), start, length, StandardCharsets.UTF_8);
+            input.position(end + 1);
+            // Se marca antes de entregar: si la mesa estaba llena, al vaciarse verá la marca
+            suspended = true;
+            if (server.dispatch(this, line)) {
+                suspended = false;
+            } else {
+                input.position(start);
+            }
+        }
+        input.compact();
+    }
+
+    /**
+     * Writes queued output until the socket would block. Called on the selector thread.
+     *
+     * @throws IOException if writing fails
+     */
+    void onWritable() throws IOException {
+        ByteBuffer head;
+        while ((head = output.peek()) != null) {
+            int written = channel.write(head);
+            queuedBytes.addAndGet(-written);
+            if (head.hasRemaining()) return;
+            output.poll();
+        }
+        updateInterest();
+    }
+
+    /**
+     * Closes the connection. Called on the selector thread.
+     */
+    void close() {
+        if (closed) return;
+        closed = true;
+        if (key != null) key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // La conexión ya no sirve
+        }
+    }
+}
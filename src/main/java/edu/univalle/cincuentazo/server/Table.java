@@ -0,0 +1,251 @@
+package edu.univalle.cincuentazo.server;
+
+import edu.univalle.cincuentazo.exceptions.DeckEmptyException;
+import edu.univalle.cincuentazo.exceptions.InvalidCardPlayException;
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One game hosted by the {@link GameServer}, run as an actor.
+ * <p>
+ * Every change to the table is a message in its bounded inbox. The inbox is
+ * drained by one task at a time on the shared worker pool, so the game is
+ * only ever touched by one thread and needs no locking, and a table waiting
+ * for its human player holds no thread at all. Machine seats play as soon as
+ * their turn comes, inside the message that gave them the turn.
+ * </p>
+ *
+ * @since 1.0
+ */
+final class Table implements GameListener {
+
+    /** Maximum number of pending messages of the inbox. */
+    static final int INBOX_CAPACITY = 16;
+
+    /** Maximum number of messages handled per task before yielding the worker. */
+    private static final int BATCH = 8;
+
+    private final long id;
+    private final GameServer server;
+    private final Executor executor;
+    private final Session session;
+
+    private final Queue<Runnable> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inboxSize = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // Estado de la partida: solo lo toca la tarea que vacía el buzón
+    private final Game game;
+    private final GameEngine engine;
+    private final IPlayer human;
+    private boolean played;
+    private boolean over;
+
+    Table(long id, GameServer server, Executor executor, Session session, String name, int machines, long seed) {
+        this.id = id;
+        this.server = server;
+        this.executor = executor;
+        this.session = session;
+
+        List<IPlayer> players = new ArrayList<>();
+        players.add(new HumanPlayer(name));
+        for (int i = 1; i <= machines; i++) {
+            players.add(new MachinePlayer("Máquina " + i));
+        }
+        this.game = new Game(players, new SplittableRandom(seed));
+        this.engine = new GameEngine(game);
+        this.human = players.get(0);
+    }
+
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Adds a message to the inbox.
+     *
+     * @param message the message, run on the table's turn of the worker pool
+     * @return false if the inbox is full
+     */
+    boolean offer(Runnable message) {
+        if (inboxSize.incrementAndGet() > INBOX_CAPACITY) {
+            inboxSize.decrementAndGet();
+            return false;
+        }
+        inbox.add(message);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+        return true;
+    }
+
+    /**
+     * Adds a control message that must not be refused, such as a disconnection.
+     *
+     * @param message the message
+     */
+    void post(Runnable message) {
+        inboxSize.incrementAndGet();
+        inbox.add(message);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        for (int i = 0; i < BATCH; i++) {
+            Runnable message = inbox.poll();
+            if (message == null) break;
+            inboxSize.decrementAndGet();
+            try {
+                message.run();
+            } catch (RuntimeException e) {
+                GameLog.error("Error en la mesa {}: {}", id, e);
+                session.send("ERROR interno");
+            }
+        }
+        if (session.isSuspended()) {
+            session.resume();
+        }
+        scheduled.set(false);
+        if (!inbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    // ---------------------------
+    // Mensajes
+
+    /**
+     * Registers the table as listener and plays until the human's first turn.
+     */
+    void start() {
+        game.addListener(this);
+        session.send("WELCOME " + session.getId() + " " + id + " " + game.getPlayers().size());
+        runMachines();
+    }
+
+    /**
+     * Plays a card for the human seat.
+     *
+     * @param card  the card
+     * @param value the value chosen for an Ace, or 0 for the card's value
+     */
+    void play(Card card, int value) {
+        if (!isHumanTurn()) {
+            session.send("ERROR no es tu turno");
+            return;
+        }
+        if (played) {
+            session.send("ERROR ya jugaste, debes robar");
+            return;
+        }
+        if (!human.getHandSet().contains(card)) {
+            session.send("ERROR no tienes " + card);
+            return;
+        }
+        try {
+            if (value == 0) {
+                game.playCard(human, card);
+            } else {
+                game.playCard(human, card, value);
+            }
+            played = true;
+        } catch (InvalidCardPlayException | IllegalArgumentException e) {
+            session.send("ERROR " + e.getMessage());
+        }
+    }
+
+    /**
+     * Draws a card for the human seat and ends their turn.
+     */
+    void draw() {
+        if (!isHumanTurn()) {
+            session.send("ERROR no es tu turno");
+            return;
+        }
+        if (!played) {
+            session.send("ERROR debes jugar antes de robar");
+            return;
+        }
+        try {
+            game.drawCard(human);
+        } catch (DeckEmptyException e) {
+            session.send("ERROR " + e.getMessage());
+        }
+        played = false;
+        engine.endTurn();
+        runMachines();
+    }
+
+    /**
+     * Abandons the game because the human left.
+     */
+    void leave() {
+        if (over) return;
+        over = true;
+        server.tableClosed(this, false);
+    }
+
+    private boolean isHumanTurn() {
+        return !over && engine.getCurrentPlayer() == human;
+    }
+
+    /**
+     * Plays the machine seats until the human's turn or the end of the game.
+     */
+    private void runMachines() {
+        while (!game.isGameOver() && engine.getCurrentPlayer() != human) {
+            try {
+                engine.playMove();
+            } catch (DeckEmptyException e) {
+                // Igual que en la interfaz: la máquina se queda sin robar
+            }
+            engine.endTurn();
+        }
+        if (game.isGameOver()) {
+            over = true;
+            server.tableClosed(this, true);
+            return;
+        }
+        StringBuilder turn = new StringBuilder("TURN ").append(game.getTableSum());
+        for (Card card : human.getHand()) {
+            turn.append(' ').append(card.name());
+        }
+        session.send(turn.toString());
+    }
+
+    // ---------------------------
+    // Eventos del juego
+
+    @Override
+    public void onCardPlayed(Game g, IPlayer player, Card card, int value, int tableSum) {
+        session.send("PLAYED " + g.getPlayers().indexOf(player) + " " + card.name() + " " + value + " " + tableSum);
+    }
+
+    @Override
+    public void onCardDrawn(Game g, IPlayer player, Card card) {
+        if (player == human) {
+            session.send("DRAWN " + card.name());
+        }
+    }
+
+    @Override
+    public void onPlayerEliminated(Game g, IPlayer player) {
+        session.send("ELIMINATED " + g.getPlayers().indexOf(player));
+    }
+
+    @Override
+    public void onGameOver(Game g, IPlayer winner) {
+        session.send("GAMEOVER " + (winner == null ? -1 : g.getPlayers().indexOf(winner)));
+    }
+}
@@ -0,0 +1,518 @@
+package edu.univalle.cincuentazo.simulation;
+
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.GameEngine;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.MachinePlayer;
+import edu.univalle.cincuentazo.model.Move;
+import edu.univalle.cincuentazo.model.RuleSet;
+import edu.univalle.cincuentazo.model.strategy.GreedyHighStrategy;
+import edu.univalle.cincuentazo.model.strategy.GreedyLowStrategy;
+import edu.univalle.cincuentazo.model.strategy.KeepAcesStrategy;
+import edu.univalle.cincuentazo.model.strategy.MinimizeOptionsStrategy;
+import edu.univalle.cincuentazo.model.strategy.Strategy;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Rates machine strategies against each other by playing many headless games.
+ * <p>
+ * Strategies are registered by name, and {@link #run(long, long)} plays
+ * matches between them on every core. A match picks as many distinct
+ * strategies as the rules have seats and plays the same deal once per seat
+ * rotation, so every strategy plays the deal from every seat and neither
+ * the seat order of {@link Game#getPlayers()} nor the luck of the deal
+ * favours anyone.
+ * </p>
+ *
+ * <p>
+ * Ratings follow the Glicko system on the Elo scale: every game is split
+ * into the pairwise results implied by the finishing positions, and each
+ * strategy keeps a rating and a deviation that shrinks as it plays, from
+ * which {@link Standing} derives a confidence interval. Batches of matches
+ * run in parallel, but their results are applied in batch order as soon as
+ * each one is ready, so the ratings of a run only depend on its seed and
+ * the registered strategies, as long as these do not depend on the clock.
+ * </p>
+ *
+ * <p>
+ * Standings are written to disk with {@link #save(Path)} and read back with
+ * {@link #load(Path)}, so a ladder can be extended across runs.
+ * A ladder is not thread-safe: register, run and save from one thread.
+ * </p>
+ *
+ * @see Standing
+ * @see SimulationRunner
+ * @since 1.0
+ */
+public class Ladder {
+
+    /** Rating of a strategy that has not played. */
+    public static final double INITIAL_RATING = 1500;
+
+    /** Deviation of a strategy that has not played. */
+    public static final double INITIAL_DEVIATION = 350;
+
+    /** Number of matches played by each batch. */
+    private static final int MATCHES_PER_BATCH = 256;
+
+    /** Number of batches in flight per worker thread. */
+    private static final int BATCHES_PER_WORKER = 4;
+
+    /** Glicko scale factor, ln(10) / 400. */
+    private static final double Q = Math.log(10) / 400;
+
+    /** First line of a standings file. */
+    private static final String HEADER = "# cincuentazo-ladder 1";
+
+    /** The rules of every game. */
+    private final RuleSet rules;
+
+    /** Number of worker threads. */
+    private final int parallelism;
+
+    /** Every known strategy by name, registered or only loaded from disk. */
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /** The registered strategies, indexed by the ids used during a run. */
+    private final List<Entry> entrants = new ArrayList<>();
+
+    /**
+     * Constructs a ladder that uses every available core.
+     *
+     * @param rules the rules of every game
+     */
+    public Ladder(RuleSet rules) {
+        this(rules, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a ladder with the given number of worker threads.
+     *
+     * @param rules       the rules of every game
+     * @param parallelism the number of worker threads
+     * @throws IllegalArgumentException if there are no workers
+     */
+    public Ladder(RuleSet rules, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo de trabajo.");
+        }
+        this.rules = rules;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs a ladder of the built-in strategies and keeps its standings in a file.
+     * <p>
+     * Arguments: the standings file (default {@code ladder.txt}), the number
+     * of matches (default 10000) and the number of seats (default 4).
+     * </p>
+     *
+     * @param args the command line arguments
+     * @throws IOException if the standings cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "ladder.txt");
+        long matches = args.length > 1 ? Long.parseLong(args[1]) : 10_000;
+        int seats = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        Ladder ladder = new Ladder(RuleSet.STANDARD.withSeats(seats));
+        ladder.register("primera", () -> Strategy.FIRST_PLAYABLE);
+        ladder.register("voraz-baja", GreedyLowStrategy::new);
+        ladder.register("voraz-alta", GreedyHighStrategy::new);
+        ladder.register("guarda-ases", KeepAcesStrategy::new);
+        ladder.register("menos-opciones", MinimizeOptionsStrategy::new);
+        if (Files.exists(file)) {
+            ladder.load(file);
+        }
+        long start = System.nanoTime();
+        List<Standing> standings = ladder.run(matches, System.nanoTime());
+        GameLog.info("{} partidas en {} ms", matches * seats, (System.nanoTime() - start) / 1_000_000);
+        for (Standing standing : standings) {
+            GameLog.info("{}", standing);
+        }
+        ladder.save(file);
+    }
+
+    /**
+     * Registers a strategy whose decisions have no time budget.
+     *
+     * @param name    the unique name of the strategy
+     * @param factory creates the instances of the strategy, one per worker batch
+     * @throws IllegalArgumentException if the name is invalid or already registered
+     */
+    public void register(String name, Supplier<? extends Strategy> factory) {
+        register(name, factory, 0);
+    }
+
+    /**
+     * Registers a strategy.
+     * <p>
+     * The factory is called once per batch of matches, so strategies that
+     * keep state between decisions are never shared between threads.
+     * Instances that are {@link AutoCloseable} are closed when their batch
+     * ends. If standings with the same name were loaded, the strategy
+     * continues from them.
+     * </p>
+     *
+     * @param name        the unique name of the strategy
+     * @param factory     creates the instances of the strategy
+     * @param budgetNanos the time budget of each decision, in nanoseconds
+     * @throws IllegalArgumentException if the name is invalid or already registered,
+     *                                  or the budget is negative
+     */
+    public void register(String name, Supplier<? extends Strategy> factory, long budgetNanos) {
+        if (name.isBlank() || name.indexOf('\t') >= 0 || name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Nombre de estrategia inválido: " + name);
+        }
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("El presupuesto de tiempo no puede ser negativo.");
+        }
+        Entry entry = entries.computeIfAbsent(name, Entry::new);
+        if (entry.factory != null) {
+            throw new IllegalArgumentException("La estrategia " + name + " ya está registrada.");
+        }
+        entry.factory = factory;
+        entry.budgetNanos = budgetNanos;
+        entrants.add(entry);
+    }
+
+    /**
+     * Plays the given number of matches and updates the ratings.
+     * <p>
+     * Each match is one game per seat, all dealt from the same seed.
+     * </p>
+     *
+     * @param matches the number of matches to play
+     * @param seed    the seed of the run
+     * @return the standings after the run, best first
+     * @throws IllegalArgumentException if the number of matches is negative or
+     *                                  there are fewer strategies than seats
+     */
+    public List<Standing> run(long matches, long seed) {
+        if (matches < 0) {
+            throw new IllegalArgumentException("El número de partidas no puede ser negativo.");
+        }
+        if (entrants.size() < rules.getSeats()) {
+            throw new IllegalArgumentException("Se necesitan al menos " + rules.getSeats()
+                    + " estrategias registradas.");
+        }
+        SplittableRandom seeds = new SplittableRandom(seed);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Queue<Future<Batch>> inFlight = new ArrayDeque<>();
+        try {
+            long next = 0;
+            while (next < matches || !inFlight.isEmpty()) {
+                // Mantiene ocupados a todos los hilos sin acumular resultados sin aplicar
+                while (next < matches && inFlight.size() < parallelism * BATCHES_PER_WORKER) {
+                    int count = (int) Math.min(MATCHES_PER_BATCH, matches - next);
+                    SplittableRandom random = seeds.split();
+                    inFlight.add(pool.submit(() -> playBatch(count, random)));
+                    next += count;
+                }
+                apply(inFlight.remove().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("La clasificación fue interrumpida.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error durante la clasificación.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return getStandings();
+    }
+
+    /**
+     * Returns the standings of every known strategy, best rating first.
+     *
+     * @return the standings
+     */
+    public List<Standing> getStandings() {
+        List<Standing> standings = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            standings.add(new Standing(entry.name, entry.rating, entry.deviation, entry.games, entry.wins));
+        }
+        standings.sort(Comparator.comparingDouble(Standing::getRating).reversed());
+        return standings;
+    }
+
+    /**
+     * Writes the standings of every known strategy to a text file.
+     * <p>
+     * The file is replaced atomically, so an interrupted save never loses
+     * the previous standings.
+     * </p>
+     *
+     * @param file the destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            out.write(HEADER);
+            out.newLine();
+            for (Entry entry : entries.values()) {
+                out.write(entry.name + '\t' + entry.rating + '\t' + entry.deviation + '\t'
+                        + entry.games + '\t' + entry.wins);
+                out.newLine();
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads standings written by {@link #save(Path)}.
+     * <p>
+     * Registered strategies continue from their saved ratings; the others
+     * are kept so that saving again does not lose them.
+     * </p>
+     *
+     * @param file the standings file
+     * @throws IOException if the file cannot be read or is not a standings file
+     */
+    public void load(Path file) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(in.readLine())) {
+                throw new IOException("El archivo no es una clasificación: " + file);
+            }
+            String line;
+            int number = 1;
+            while ((line = in.readLine()) != null) {
+                number++;
+                if (line.isEmpty()) continue;
+                String[] fields = line.split("\t");
+                if (fields.length != 5) {
+                    throw new IOException("Clasificación inválida en la línea " + number);
+                }
+                try {
+                    Entry entry = entries.computeIfAbsent(fields[0], Entry::new);
+                    entry.rating = Double.parseDouble(fields[1]);
+                    entry.deviation = Double.parseDouble(fields[2]);
+                    entry.games = Long.parseLong(fields[3]);
+                    entry.wins = Long.parseLong(fields[4]);
+                } catch (NumberFormatException e) {
+                    throw new IOException("Clasificación inválida en la línea " + number, e);
+                }
+            }
+        }
+    }
+
+    // ---------------------------
+    // Partidas
+
+    /**
+     * Plays a batch of matches on one game instance.
+     *
+     * @param count  the number of matches
+     * @param random the random stream of the batch
+     * @return the finishing order of every game of the batch
+     */
+    private Batch playBatch(int count, SplittableRandom random) {
+        int seats = rules.getSeats();
+        int known = entrants.size();
+        Seat[] seatStrategies = new Seat[seats];
+        List<IPlayer> players = new ArrayList<>(seats);
+        for (int s = 0; s < seats; s++) {
+            seatStrategies[s] = new Seat();
+            players.add(new MachinePlayer("Asiento " + s, seatStrategies[s], 0));
+        }
+        DealRandom deal = new DealRandom();
+        GameEngine engine = new GameEngine(new Game(players, deal, rules));
+
+        Strategy[] instances = new Strategy[known];
+        int[] candidates = new int[known];
+        for (int i = 0; i < known; i++) {
+            candidates[i] = i;
+        }
+        int[] participants = new int[seats];
+        Batch batch = new Batch(count * seats * seats, known);
+        int out = 0;
+        try {
+            for (int m = 0; m < count; m++) {
+                // Muestra sin reemplazo de los participantes de la partida
+                for (int i = 0; i < seats; i++) {
+                    int j = i + random.nextInt(known - i);
+                    int swap = candidates[i];
+                    candidates[i] = candidates[j];
+                    candidates[j] = swap;
+                    participants[i] = candidates[i];
+                }
+                long dealSeed = random.nextLong();
+
+                for (int rotation = 0; rotation < seats; rotation++) {
+                    for (int s = 0; s < seats; s++) {
+                        int id = participants[(s + rotation) % seats];
+                        if (instances[id] == null) {
+                            instances[id] = entrants.get(id).factory.get();
+                        }
+                        seatStrategies[s].delegate = instances[id];
+                        seatStrategies[s].budgetNanos = entrants.get(id).budgetNanos;
+                    }
+                    deal.seed = dealSeed;
+                    engine.reset();
+                    engine.playToEnd();
+                    record(engine.getGame(), participants, rotation, batch, out);
+                    out += seats;
+                }
+            }
+        } finally {
+            for (Strategy instance : instances) {
+                if (instance instanceof AutoCloseable closeable) {
+                    try {
+                        closeable.close();
+                    } catch (Exception e) {
+                        GameLog.warn("No se pudo cerrar una estrategia: {}", e.getMessage());
+                    }
+                }
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Writes the finishing order of a game, as strategy ids, at the given offset.
+     */
+    private static void record(Game game, int[] participants, int rotation, Batch batch, int offset) {
+        List<IPlayer> players = game.getPlayers();
+        int seats = players.size();
+        IPlayer winner = game.getWinner();
+        if (winner != null) {
+            int id = participants[(players.indexOf(winner) + rotation) % seats];
+            batch.finishes[offset] = id;
+            batch.wins[id]++;
+        }
+        // El primer eliminado queda de último
+        List<IPlayer> order = game.getEliminationOrder();
+        for (int i = 0; i < order.size(); i++) {
+            batch.finishes[offset + seats - 1 - i] = participants[(players.indexOf(order.get(i)) + rotation) % seats];
+        }
+    }
+
+    // ---------------------------
+    // Calificación
+
+    /**
+     * Applies the results of a batch to the ratings, game by game.
+     */
+    private void apply(Batch batch) {
+        int seats = rules.getSeats();
+        double[] ratings = new double[seats];
+        double[] deviations = new double[seats];
+        for (int offset = 0; offset < batch.finishes.length; offset += seats) {
+            for (int i = 0; i < seats; i++) {
+                Entry player = entrants.get(batch.finishes[offset + i]);
+                double variance = 0;
+                double improvement = 0;
+                for (int j = 0; j < seats; j++) {
+                    if (j == i) continue;
+                    Entry opponent = entrants.get(batch.finishes[offset + j]);
+                    double g = 1 / Math.sqrt(1 + 3 * Q * Q * opponent.deviation * opponent.deviation / (Math.PI * Math.PI));
+                    double expected = 1 / (1 + Math.pow(10, -g * (player.rating - opponent.rating) / 400));
+                    variance += g * g * expected * (1 - expected);
+                    improvement += g * ((i < j ? 1 : 0) - expected);
+                }
+                double precision = 1 / (player.deviation * player.deviation) + Q * Q * variance;
+                ratings[i] = player.rating + Q / precision * improvement;
+                deviations[i] = Math.sqrt(1 / precision);
+            }
+            // Todos los puestos se califican con los valores previos a la partida
+            for (int i = 0; i < seats; i++) {
+                Entry player = entrants.get(batch.finishes[offset + i]);
+                player.rating = ratings[i];
+                player.deviation = deviations[i];
+                player.games++;
+            }
+        }
+        for (int id = 0; id < batch.wins.length; id++) {
+            entrants.get(id).wins += batch.wins[id];
+        }
+    }
+
+    /**
+     * Rating state of one strategy.
+     */
+    private static final class Entry {
+
+        final String name;
+        Supplier<? extends Strategy> factory;
+        long budgetNanos;
+        double rating = INITIAL_RATING;
+        double deviation = INITIAL_DEVIATION;
+        long games;
+        long wins;
+
+        Entry(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Finishing orders and wins of a batch of games.
+     */
+    private static final class Batch {
+
+        final int[] finishes;
+        final long[] wins;
+
+        Batch(int finishes, int strategies) {
+            this.finishes = new int[finishes];
+            this.wins = new long[strategies];
+        }
+    }
+
+    /**
+     * Strategy of one seat, switched to the strategy that sits there in each game.
+     */
+    private static final class Seat implements Strategy {
+
+        Strategy delegate;
+        long budgetNanos;
+
+        @Override
+        public Move chooseMove(Game game, IPlayer player, long deadline) {
+            return delegate.chooseMove(game, player, System.nanoTime() + budgetNanos);
+        }
+    }
+
+    /**
+     * SplitMix64 generator that can be reseeded, so that every rotation of a
+     * match is dealt the same cards.
+     */
+    private static final class DealRandom implements RandomGenerator {
+
+        long seed;
+
+        @Override
+        public long nextLong() {
+            long z = (seed += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package edu.univalle.cincuentazo.simulation;
+
+/**
+ * Aggregated results of a batch of simulated games.
+ * <p>
+ * Seats are numbered as in {@code Game.getPlayers()}: seat 0 is the first
+ * player and the machines follow. Finishing positions start at 0 for the
+ * winner; the first player eliminated gets the last position.
+ * </p>
+ *
+ * @see SimulationRunner
+ * @since 1.0
+ */
+public final class SimulationResult {
+
+    private final long games;
+    private final int seats;
+    private final long[] wins;
+    private final long[] placements;
+    private final long totalTurns;
+    private final long totalRecycles;
+    private final long gamesWithoutWinner;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a result. The arrays are owned by the result afterwards.
+     *
+     * @param games              the number of games played
+     * @param seats              the number of seats per game
+     * @param wins               the wins of each seat
+     * @param placements         the count of each finishing position per seat, indexed by {@code seat * seats + position}
+     * @param totalTurns         the sum of the turns of every game
+     * @param totalRecycles      the sum of the deck refills of every game
+     * @param gamesWithoutWinner the games where every player was eliminated at once
+     * @param elapsedNanos       the wall-clock time of the run
+     */
+    SimulationResult(long games, int seats, long[] wins, long[] placements, long totalTurns,
+                     long totalRecycles, long gamesWithoutWinner, long elapsedNanos) {
+        this.games = games;
+        this.seats = seats;
+        this.wins = wins;
+        this.placements = placements;
+        this.totalTurns = totalTurns;
+        this.totalRecycles = totalRecycles;
+        this.gamesWithoutWinner = gamesWithoutWinner;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of seats per game.
+     *
+     * @return the number of seats
+     */
+    public int getSeats() {
+        return seats;
+    }
+
+    /**
+     * Returns the number of games won by the given seat.
+     *
+     * @param seat the seat index
+     * @return the number of wins
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Returns the fraction of games won by the given seat.
+     *
+     * @param seat the seat index
+     * @return the win rate, between 0 and 1
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) wins[seat] / games;
+    }
+
+    /**
+     * Returns how many times the given seat finished in the given position.
+     *
+     * @param seat     the seat index
+     * @param position the finishing position, 0 being the winner
+     * @return the number of games
+     */
+    public long getPlacementCount(int seat, int position) {
+        return placements[seat * seats + position];
+    }
+
+    /**
+     * Returns the average finishing position of the given seat.
+     *
+     * @param seat the seat index
+     * @return the average position, 0 being the winner
+     */
+    public double getAveragePlacement(int seat) {
+        long total = 0;
+        long count = 0;
+        for (int position = 0; position < seats; position++) {
+            long n = placements[seat * seats + position];
+            total += n * position;
+            count += n;
+        }
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Returns the average number of turns per game.
+     *
+     * @return the average game length in turns
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Returns the average number of deck refills per game.
+     *
+     * @return the average recycle count
+     */
+    public double getAverageRecycles() {
+        return games == 0 ? 0 : (double) totalRecycles / games;
+    }
+
+    /**
+     * Returns the number of games that ended with every player eliminated.
+     *
+     * @return the number of games without winner
+     */
+    public long getGamesWithoutWinner() {
+        return gamesWithoutWinner;
+    }
+
+    /**
+     * Returns the throughput of the run.
+     *
+     * @return games played per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%d juegos, %.0f juegos/s, %.2f turnos y %.3f recargas en promedio%n",
+                games, getGamesPerSecond(), getAverageTurns(), getAverageRecycles()));
+        for (int seat = 0; seat < seats; seat++) {
+            sb.append(String.format("  puesto %d: %.2f%% victorias, posición media %.2f%n",
+                    seat, 100 * getWinRate(seat), getAveragePlacement(seat)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,277 @@
+package edu.univalle.cincuentazo.simulation;
+
+import edu.univalle.cincuentazo.model.Game;
+import edu.univalle.cincuentazo.model.GameEngine;
+import edu.univalle.cincuentazo.model.IPlayer;
+import edu.univalle.cincuentazo.model.RuleSet;
+import edu.univalle.cincuentazo.replay.GameRecordWriter;
+import edu.univalle.cincuentazo.replay.GameRecorder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plays many independent headless games of Cincuentazo in parallel.
+ * <p>
+ * The requested games are split into fixed-size batches that run on a
+ * {@link ForkJoinPool}. Each batch owns one {@link Game} and {@link GameEngine}
+ * that are reset between games, and a random stream derived from the run
+ * seed and the batch index, so the aggregated results of a run only depend
+ * on its seed and not on thread scheduling.
+ * </p>
+ *
+ * <p>
+ * Batches accumulate their statistics locally and publish them once to
+ * {@link LongAdder} counters, which keeps contention negligible and lets the
+ * throughput scale with the number of cores.
+ * </p>
+ *
+ * <p>
+ * Every game of a run follows the same {@link RuleSet}, so variants of the
+ * rules can be compared by running one simulation per variant. Seat 0 is
+ * played by a {@code HumanPlayer} that the engine moves like the machines.
+ * </p>
+ *
+ * @see SimulationResult
+ * @see GameEngine
+ * @since 1.0
+ */
+public class SimulationRunner {
+
+    /** Number of games played by each batch. */
+    private static final int BATCH_SIZE = 1024;
+
+    /** The rules of every game. */
+    private final RuleSet rules;
+
+    /** Number of worker threads. */
+    private final int parallelism;
+
+    /**
+     * Constructs a runner that uses every available core.
+     *
+     * @param machinePlayers the number of machine players of every game
+     * @throws IllegalArgumentException if the number is out of range for the standard rules
+     */
+    public SimulationRunner(int machinePlayers) {
+        this(machinePlayers, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a runner of standard games with the given number of worker threads.
+     *
+     * @param machinePlayers the number of machine players of every game
+     * @param parallelism    the number of worker threads
+     * @throws IllegalArgumentException if any argument is out of range for the standard rules
+     */
+    public SimulationRunner(int machinePlayers, int parallelism) {
+        this(RuleSet.STANDARD.withSeats(machinePlayers + 1), parallelism);
+    }
+
+    /**
+     * Constructs a runner of games with the given rules that uses every available core.
+     *
+     * @param rules the rules of every game
+     */
+    public SimulationRunner(RuleSet rules) {
+        this(rules, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a runner of games with the given rules and number of worker threads.
+     *
+     * @param rules       the rules of every game, which also give the number of seats
+     * @param parallelism the number of worker threads
+     * @throws IllegalArgumentException if there are no workers
+     */
+    public SimulationRunner(RuleSet rules, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo de trabajo.");
+        }
+        this.rules = rules;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays the given number of games and aggregates their results.
+     *
+     * @param games the number of games to play
+     * @param seed  the seed of the run
+     * @return the aggregated results
+     * @throws IllegalArgumentException if the number of games is negative
+     */
+    public SimulationResult run(long games, long seed) {
+        return run(games, seed, null);
+    }
+
+    /**
+     * Plays the given number of games, recording each of them.
+     * <p>
+     * When recording, every game is dealt from its own seed, drawn from the
+     * batch stream, so that it can be replayed on its own; the results are
+     * still reproducible, but differ from those of an unrecorded run with the
+     * same seed. Records are appended in completion order.
+     * </p>
+     *
+     * @param games     the number of games to play
+     * @param seed      the seed of the run
+     * @param recording the destination of the recorded games, or null to record nothing
+     * @return the aggregated results
+     * @throws IllegalArgumentException if the number of games is negative, or games
+     *                                  are recorded and the rules are not the standard ones
+     * @throws UncheckedIOException if the recording cannot be written
+     */
+    public SimulationResult run(long games, long seed, GameRecordWriter recording) {
+        if (games < 0) {
+            throw new IllegalArgumentException("El número de juegos no puede ser negativo.");
+        }
+        int seats = rules.getSeats();
+        if (recording != null && !rules.equals(RuleSet.STANDARD.withSeats(seats))) {
+            throw new IllegalArgumentException("Solo se pueden grabar partidas con las reglas estándar.");
+        }
+        Counters counters = new Counters(seats);
+        SplittableRandom seeds = new SplittableRandom(seed);
+
+        List<Callable<Void>> batches = new ArrayList<>();
+        for (long first = 0; first < games; first += BATCH_SIZE) {
+            int count = (int) Math.min(BATCH_SIZE, games - first);
+            SplittableRandom random = seeds.split();
+            batches.add(() -> {
+                playBatch(count, random, counters, recording);
+                return null;
+            });
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<Void> future : pool.invokeAll(batches)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("La simulación fue interrumpida.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error durante la simulación.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        if (recording != null) {
+            try {
+                recording.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo escribir la grabación.", e);
+            }
+        }
+        return counters.toResult(games, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays a batch of games on one game instance and publishes its statistics.
+     *
+     * @param count    the number of games of the batch
+     * @param random   the random stream of the batch
+     * @param counters the shared counters
+     */
+    private void playBatch(int count, SplittableRandom random, Counters counters, GameRecordWriter recording) {
+        int seats = rules.getSeats();
+        long[] wins = new long[seats];
+        long[] placements = new long[seats * seats];
+        long turns = 0;
+        long recycles = 0;
+        long noWinner = 0;
+
+        GameEngine engine = recording == null ? new GameEngine(new Game(rules, random)) : null;
+
+        for (int n = 0; n < count; n++) {
+            if (recording != null) {
+                long gameSeed = random.nextLong();
+                engine = new GameEngine(new Game(rules, new SplittableRandom(gameSeed)));
+                engine.getGame().addListener(new GameRecorder(engine, gameSeed, recording));
+            } else if (n > 0) {
+                engine.reset();
+            }
+            Game game = engine.getGame();
+            List<IPlayer> players = game.getPlayers();
+            IPlayer winner = engine.playToEnd();
+            turns += engine.getTurnCount();
+            recycles += game.getRecycleCount();
+
+            if (winner == null) {
+                noWinner++;
+            } else {
+                int seat = players.indexOf(winner);
+                wins[seat]++;
+                placements[seat * seats]++;
+            }
+            // El primer eliminado queda de último
+            List<IPlayer> order = game.getEliminationOrder();
+            for (int i = 0; i < order.size(); i++) {
+                int place = seats - 1 - i;
+                placements[players.indexOf(order.get(i)) * seats + place]++;
+            }
+        }
+
+        counters.publish(wins, placements, turns, recycles, noWinner);
+    }
+
+    /**
+     * Shared counters of a run, updated once per batch.
+     */
+    private static final class Counters {
+
+        private final int seats;
+        private final LongAdder[] wins;
+        private final LongAdder[] placements;
+        private final LongAdder turns = new LongAdder();
+        private final LongAdder recycles = new LongAdder();
+        private final LongAdder noWinner = new LongAdder();
+
+        Counters(int seats) {
+            this.seats = seats;
+            this.wins = newAdders(seats);
+            this.placements = newAdders(seats * seats);
+        }
+
+        private static LongAdder[] newAdders(int size) {
+            LongAdder[] adders = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+
+        void publish(long[] batchWins, long[] batchPlacements, long batchTurns, long batchRecycles, long batchNoWinner) {
+            for (int i = 0; i < batchWins.length; i++) {
+                wins[i].add(batchWins[i]);
+            }
+            for (int i = 0; i < batchPlacements.length; i++) {
+                placements[i].add(batchPlacements[i]);
+            }
+            turns.add(batchTurns);
+            recycles.add(batchRecycles);
+            noWinner.add(batchNoWinner);
+        }
+
+        SimulationResult toResult(long games, long elapsedNanos) {
+            long[] winTotals = new long[seats];
+            for (int i = 0; i < seats; i++) {
+                winTotals[i] = wins[i].sum();
+            }
+            long[] placementTotals = new long[seats * seats];
+            for (int i = 0; i < placementTotals.length; i++) {
+                placementTotals[i] = placements[i].sum();
+            }
+            return new SimulationResult(games, seats, winTotals, placementTotals,
+                    turns.sum(), recycles.sum(), noWinner.sum(), elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package edu.univalle.cincuentazo.simulation;
+
+/**
+ * Rating of one strategy of a {@link Ladder} at a point in time.
+ * <p>
+ * The rating is on the Elo scale, where a difference of 400 points means
+ * that the stronger strategy is expected to finish ahead ten times out of
+ * eleven. The deviation measures how uncertain the rating still is: it
+ * starts high and shrinks with every game, and the true strength lies
+ * within {@link #getLowerBound()} and {@link #getUpperBound()} with 95%
+ * confidence.
+ * </p>
+ *
+ * @see Ladder#getStandings()
+ * @since 1.0
+ */
+public final class Standing {
+
+    /** Multiplier of the deviation for a 95% confidence interval. */
+    private static final double Z_95 = 1.96;
+
+    private final String name;
+    private final double rating;
+    private final double deviation;
+    private final long games;
+    private final long wins;
+
+    /**
+     * Constructs a standing.
+     *
+     * @param name      the name of the strategy
+     * @param rating    the rating
+     * @param deviation the rating deviation
+     * @param games     the number of games played
+     * @param wins      the number of games won
+     */
+    Standing(String name, double rating, double deviation, long games, long wins) {
+        this.name = name;
+        this.rating = rating;
+        this.deviation = deviation;
+        this.games = games;
+        this.wins = wins;
+    }
+
+    /**
+     * Returns the name the strategy was registered with.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the rating of the strategy.
+     *
+     * @return the rating, 1500 for a strategy that has not played
+     */
+    public double getRating() {
+        return rating;
+    }
+
+    /**
+     * Returns the rating deviation of the strategy.
+     *
+     * @return the standard deviation of the rating
+     */
+    public double getDeviation() {
+        return deviation;
+    }
+
+    /**
+     * Returns the lower end of the 95% confidence interval of the rating.
+     *
+     * @return the lower bound
+     */
+    public double getLowerBound() {
+        return rating - Z_95 * deviation;
+    }
+
+    /**
+     * Returns the upper end of the 95% confidence interval of the rating.
+     *
+     * @return the upper bound
+     */
+    public double getUpperBound() {
+        return rating + Z_95 * deviation;
+    }
+
+    /**
+     * Returns the number of games the strategy has played.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games the strategy has won.
+     *
+     * @return the number of wins
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.0f [%.0f, %.0f], %d juegos, %.2f%% victorias", name, rating,
+                getLowerBound(), getUpperBound(), games, games == 0 ? 0 : 100.0 * wins / games);
+    }
+}
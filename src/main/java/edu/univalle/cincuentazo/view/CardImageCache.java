@@ -0,0 +1,248 @@
+package edu.univalle.cincuentazo.view;
+
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.model.Card;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Screen;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared cache of the card images of the game.
+ * <p>
+ * When the build has generated the card atlas ({@code cards/atlas.png} and
+ * its {@code atlas.index}), the whole deck is decoded once, in the
+ * background, as a single image, and every card is shown as a viewport into
+ * it: one decode and one GPU texture instead of 53. Without the atlas (for
+ * example when running from sources that were not built with Maven), every
+ * card face and the card back are decoded individually at the largest size
+ * they are displayed, scaled for the output scale of the primary screen.
+ * </p>
+ *
+ * <p>
+ * In both cases all views share the same {@link Image} instances, so
+ * refreshing the table or the hands never decodes a PNG on the JavaFX
+ * Application Thread. The cache is created on first use; calling
+ * {@link #getInstance()} at application start lets the images load while the
+ * start menu is shown. An {@link ImageView} showing an image that is still
+ * loading is updated automatically when the image is ready.
+ * </p>
+ *
+ * @see Card#getResourcePath()
+ * @since 1.0
+ */
+public final class CardImageCache {
+
+    /** Resource path of the card back image. */
+    public static final String BACK_PATH = "/edu/univalle/cincuentazo/cards/card_back.png";
+
+    /** Resource path of the card atlas generated by the build. */
+    public static final String ATLAS_PATH = "/edu/univalle/cincuentazo/cards/atlas.png";
+
+    /** Resource path of the index of the card atlas. */
+    public static final String ATLAS_INDEX_PATH = "/edu/univalle/cincuentazo/cards/atlas.index";
+
+    /** Largest width at which a card is displayed, in pixels. */
+    public static final double DISPLAY_WIDTH = 100;
+
+    /** Largest height at which a card is displayed, in pixels. */
+    public static final double DISPLAY_HEIGHT = 150;
+
+    /** The single instance of the cache. */
+    private static CardImageCache instance;
+
+    /** Image of each card face, indexed by ordinal; all the same image when using the atlas. */
+    private final Image[] faces;
+
+    /** Image of the card back. */
+    private final Image back;
+
+    /** Atlas viewport of each card face, indexed by ordinal, or null without atlas. */
+    private final Rectangle2D[] faceViewports;
+
+    /** Atlas viewport of the card back, or null without atlas. */
+    private final Rectangle2D backViewport;
+
+    /** Number of images decoded by the cache. */
+    private int decodeCount;
+
+    /**
+     * Starts loading the card atlas, or every card image if there is no atlas,
+     * in the background.
+     */
+    private CardImageCache() {
+        Card[] cards = Card.values();
+        faces = new Image[cards.length];
+        Map<String, Rectangle2D> index = readAtlasIndex();
+
+        if (index != null && hasEveryCard(index, cards)) {
+            Image atlas = decode(ATLAS_PATH, 0, 0);
+            faceViewports = new Rectangle2D[cards.length];
+            for (Card card : cards) {
+                faces[card.ordinal()] = atlas;
+                faceViewports[card.ordinal()] = index.get(card.getFileName());
+            }
+            back = atlas;
+            backViewport = index.get(fileName(BACK_PATH));
+        } else {
+            double scale = Math.max(1.0, Screen.getPrimary().getOutputScaleX());
+            double width = DISPLAY_WIDTH * scale;
+            double height = DISPLAY_HEIGHT * scale;
+            for (Card card : cards) {
+                faces[card.ordinal()] = decode(card.getResourcePath(), width, height);
+            }
+            back = decode(BACK_PATH, width, height);
+            faceViewports = null;
+            backViewport = null;
+        }
+    }
+
+    /**
+     * Returns the singleton instance of the cache.
+     * <p>
+     * Creates the instance, and starts loading the images, if it does not
+     * exist yet. Must be called after the JavaFX toolkit has started.
+     * </p>
+     *
+     * @return the card image cache
+     */
+    public static synchronized CardImageCache getInstance() {
+        if (instance == null) {
+            instance = new CardImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Checks if the cards are rendered from the build-time atlas.
+     *
+     * @return true if every card is a viewport into a single atlas image
+     */
+    public boolean usesAtlas() {
+        return faceViewports != null;
+    }
+
+    /**
+     * Returns the number of images decoded by the cache.
+     *
+     * @return 1 when using the atlas, otherwise one per card plus the back
+     */
+    public int getDecodeCount() {
+        return decodeCount;
+    }
+
+    /**
+     * Shows the face of the given card in an image view.
+     *
+     * @param view the view to update
+     * @param card the card to show
+     */
+    public void show(ImageView view, Card card) {
+        view.setImage(faces[card.ordinal()]);
+        view.setViewport(faceViewports == null ? null : faceViewports[card.ordinal()]);
+    }
+
+    /**
+     * Shows the card back in an image view.
+     *
+     * @param view the view to update
+     */
+    public void showBack(ImageView view) {
+        view.setImage(back);
+        view.setViewport(backViewport);
+    }
+
+    /**
+     * Creates an image view showing the face of the given card.
+     *
+     * @param card the card to show
+     * @return the new image view
+     */
+    public ImageView createView(Card card) {
+        ImageView view = new ImageView();
+        show(view, card);
+        return view;
+    }
+
+    /**
+     * Creates an image view showing the card back.
+     *
+     * @return the new image view
+     */
+    public ImageView createBackView() {
+        ImageView view = new ImageView();
+        showBack(view);
+        return view;
+    }
+
+    /**
+     * Creates an image that is decoded in the background.
+     *
+     * @param path   the resource path of the image
+     * @param width  the decoded width, or 0 for the original size
+     * @param height the decoded height, or 0 for the original size
+     * @return the image
+     */
+    private Image decode(String path, double width, double height) {
+        decodeCount++;
+        return new Image(url(path), width, height, false, true, true);
+    }
+
+    /**
+     * Reads the index of the card atlas.
+     *
+     * @return the viewport of each image by file name, or null if there is no valid atlas
+     */
+    private static Map<String, Rectangle2D> readAtlasIndex() {
+        if (CardImageCache.class.getResource(ATLAS_PATH) == null) return null;
+        InputStream in = CardImageCache.class.getResourceAsStream(ATLAS_INDEX_PATH);
+        if (in == null) return null;
+
+        Map<String, Rectangle2D> index = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] parts = line.trim().split("\\s+");
+                index.put(parts[0], new Rectangle2D(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]),
+                        Double.parseDouble(parts[3]), Double.parseDouble(parts[4])));
+            }
+        } catch (IOException | RuntimeException e) {
+            GameLog.warn("Índice del atlas inválido, se cargan las cartas por separado: {}", e.getMessage());
+            return null;
+        }
+        return index;
+    }
+
+    /**
+     * Checks if the atlas index has a viewport for every card and the back.
+     */
+    private static boolean hasEveryCard(Map<String, Rectangle2D> index, Card[] cards) {
+        for (Card card : cards) {
+            if (!index.containsKey(card.getFileName())) return false;
+        }
+        return index.containsKey(fileName(BACK_PATH));
+    }
+
+    /**
+     * Returns the file name of a resource path.
+     */
+    private static String fileName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Returns the external URL of a resource.
+     */
+    private static String url(String path) {
+        return CardImageCache.class.getResource(path).toExternalForm();
+    }
+}
@@ -1,22 +1,24 @@
 package edu.univalle.cincuentazo.view;
 
+import edu.univalle.cincuentazo.log.GameLog;
 import edu.univalle.cincuentazo.controller.GameController;
+import edu.univalle.cincuentazo.model.RuleSet;
 import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.stage.Stage;
 
 /**
  * Represents the main game window of the Cincuentazo application.
  * <p>
  * This class extends {@link Stage} and is responsible for launching the
- * main game interface. It loads the FXML layout
- * {@code cincuentazo-game-view.fxml} and connects it with
- * {@link GameController}.
+ * main game interface. It obtains the FXML layout
+ * {@code cincuentazo-game-view.fxml} from {@link GameViewLoader}, prewarmed
+ * if possible, and connects it with {@link GameController}.
  * </p>
  *
  * <p>
  * The window is titled "Cincuentazo - In Game" and is not resizable.
- * The number of machine players is passed to the controller upon creation.
+ * The rules of the game are passed to the controller upon creation.
  * </p>
  *
  * @see GameController
@@ -28,31 +30,27 @@ public class GameStage extends Stage {
      * Constructs a new GameStage and starts the game.
      * <p>
      * Loads the game FXML, sets the scene, window title, and shows the stage.
-     * It also passes the number of machine players to the controller.
+     * It also passes the rules of the game to the controller.
      * Any exceptions during loading are caught and printed to the error stream.
      * </p>
      *
-     * @param machineCount the number of machine players in the game
+     * @param rules the rules of the game, including its number of seats
      */
-    public GameStage(int machineCount) {
+    public GameStage(RuleSet rules) {
         try {
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/edu/univalle/cincuentazo/view/cincuentazo-game-view.fxml")
-            );
-            Scene scene = new Scene(loader.load());
-
+            FXMLLoader loader = GameViewLoader.createScene();
+            Parent root = loader.getRoot();
 
             GameController controller = loader.getController();
-            controller.startGame(machineCount);
+            controller.startGame(rules);
 
             setTitle("Cincuentazo - En juego");
             setResizable(false);
-            setScene(scene);
+            setScene(root.getScene());
             show();
 
         } catch (Exception e) {
-            e.printStackTrace();
-            System.err.println("Error al cargar la vista del juego (GameStage).");
+            GameLog.error("Error al cargar la vista del juego (GameStage).", e);
         }
     }
 }
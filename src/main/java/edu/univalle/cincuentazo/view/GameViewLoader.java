@@ -0,0 +1,121 @@
+package edu.univalle.cincuentazo.view;
+
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.controller.GameController;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Loads the game view, ahead of time when possible.
+ * <p>
+ * {@link #prewarm()} parses {@code cincuentazo-game-view.fxml} and
+ * instantiates its {@link GameController} on a background thread, while the
+ * start menu is showing. {@link #createScene()} then only has to wrap the
+ * pre-built node tree in a {@link Scene}, which must be done on the JavaFX
+ * Application Thread. If the view was not prewarmed, or prewarming failed,
+ * the view is loaded synchronously.
+ * </p>
+ *
+ * <p>
+ * Both {@link edu.univalle.cincuentazo.controller.StartController} and
+ * {@link GameStage} obtain the game view through this class. Each prewarmed
+ * view is used at most once.
+ * </p>
+ *
+ * @see GameController
+ * @see CardImageCache
+ * @since 1.0
+ */
+public final class GameViewLoader {
+
+    /** Resource path of the game view. */
+    public static final String GAME_VIEW_PATH = "/edu/univalle/cincuentazo/view/cincuentazo-game-view.fxml";
+
+    /** The view being prepared in the background, or null if none. */
+    private static CompletableFuture<FXMLLoader> pending;
+
+    private GameViewLoader() {
+    }
+
+    /**
+     * Starts loading the game view in the background.
+     * <p>
+     * Also makes sure the card images are being decoded. Calling this method
+     * while a view is already being prepared has no effect. Must be called on
+     * the JavaFX Application Thread.
+     * </p>
+     */
+    public static synchronized void prewarm() {
+        if (pending != null) return;
+        CardImageCache.getInstance();
+
+        CompletableFuture<FXMLLoader> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                future.complete(load());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }, "cincuentazo-prewarm");
+        thread.setDaemon(true);
+        thread.setContextClassLoader(GameViewLoader.class.getClassLoader());
+        thread.start();
+        pending = future;
+    }
+
+    /**
+     * Creates the game scene, using the prewarmed view if there is one.
+     *
+     * @return a loaded view whose root is attached to a new scene
+     * @throws IOException if the view cannot be loaded
+     * @throws IllegalStateException if not called on the JavaFX Application Thread
+     */
+    public static FXMLLoader createScene() throws IOException {
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("La escena debe crearse en el hilo de JavaFX.");
+        }
+        FXMLLoader loader = take();
+        new Scene(loader.<Parent>getRoot());
+        return loader;
+    }
+
+    /**
+     * Returns the prewarmed view, or loads one synchronously.
+     *
+     * @return a loaded view
+     * @throws IOException if the view cannot be loaded
+     */
+    private static FXMLLoader take() throws IOException {
+        CompletableFuture<FXMLLoader> future;
+        synchronized (GameViewLoader.class) {
+            future = pending;
+            pending = null;
+        }
+        if (future != null) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                GameLog.warn("No se pudo precargar la vista del juego: {}", e.getCause());
+            }
+        }
+        return load();
+    }
+
+    /**
+     * Parses the game view and creates its controller.
+     *
+     * @return the loader holding the root node and the controller
+     * @throws IOException if the view cannot be loaded
+     */
+    private static FXMLLoader load() throws IOException {
+        FXMLLoader loader = new FXMLLoader(GameViewLoader.class.getResource(GAME_VIEW_PATH));
+        loader.load();
+        return loader;
+    }
+}
@@ -0,0 +1,144 @@
+package edu.univalle.cincuentazo.view;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.CardSet;
+
+import java.util.Arrays;
+
+/**
+ * Assignment of the cards of a hand to the fixed slots of a {@link HandView}.
+ * <p>
+ * The hand is compared with the slots by card identity, not by position: a
+ * card that stays in the hand keeps its slot, the slot of a card that left
+ * the hand is emptied, and a new card takes the lowest empty slot. A play
+ * followed by a draw therefore changes a single slot, and the cards keep
+ * the order in which they were received instead of being sorted again on
+ * every turn. Copies of a card from several decks each take their own slot.
+ * </p>
+ *
+ * <p>
+ * The class has no dependency on JavaFX; {@link HandView} renders the slots
+ * reported by {@link #isChanged(int)} after each update. Updates allocate
+ * nothing.
+ * </p>
+ *
+ * @see HandView
+ * @since 1.0
+ */
+public final class HandSlots {
+
+    /** Card in each slot, or null if the slot is empty. */
+    private final Card[] shown;
+
+    /** Whether each slot changed in the last update. */
+    private final boolean[] changed;
+
+    /** Copies of each card still to be placed; all zero between updates. */
+    private final int[] pending = new int[Card.values().length];
+
+    /**
+     * Constructs empty slots.
+     *
+     * @param capacity the number of slots
+     */
+    public HandSlots(int capacity) {
+        this.shown = new Card[capacity];
+        this.changed = new boolean[capacity];
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return shown.length;
+    }
+
+    /**
+     * Returns the card in a slot.
+     *
+     * @param slot the slot index
+     * @return the card, or null if the slot is empty
+     */
+    public Card get(int slot) {
+        return shown[slot];
+    }
+
+    /**
+     * Checks if a slot changed in the last update.
+     *
+     * @param slot the slot index
+     * @return true if the slot now holds a different card, or none
+     */
+    public boolean isChanged(int slot) {
+        return changed[slot];
+    }
+
+    /**
+     * Assigns the cards of a hand to the slots, with every copy of a card.
+     *
+     * @param hand the cards of the seat
+     * @return the number of slots that changed
+     */
+    public int update(CardSet hand) {
+        long cards = hand.bits();
+        boolean copies = hand.bits(1) != 0;
+        for (long remaining = cards; remaining != 0; remaining &= remaining - 1) {
+            Card card = CardSet.first(remaining);
+            pending[card.ordinal()] = copies ? hand.count(card) : 1;
+        }
+        return assign(cards);
+    }
+
+    /**
+     * Assigns the cards of a mask to the slots.
+     *
+     * @param cards the mask of the cards of the seat, as given by {@link CardSet#bits()}
+     * @return the number of slots that changed
+     */
+    public int update(long cards) {
+        for (long remaining = cards; remaining != 0; remaining &= remaining - 1) {
+            pending[Long.numberOfTrailingZeros(remaining)] = 1;
+        }
+        return assign(cards);
+    }
+
+    /**
+     * Keeps the slots whose card is still pending, empties the others and
+     * places the rest of the pending cards in the lowest empty slots.
+     */
+    private int assign(long cards) {
+        Arrays.fill(changed, false);
+        for (int i = 0; i < shown.length; i++) {
+            Card card = shown[i];
+            if (card == null) continue;
+            if (pending[card.ordinal()] > 0) {
+                pending[card.ordinal()]--;
+            } else {
+                shown[i] = null;
+                changed[i] = true;
+            }
+        }
+        int free = 0;
+        for (long remaining = cards; remaining != 0; remaining &= remaining - 1) {
+            int ordinal = Long.numberOfTrailingZeros(remaining);
+            while (pending[ordinal] > 0) {
+                while (free < shown.length && shown[free] != null) free++;
+                if (free == shown.length) {
+                    // Más cartas que espacios: las que sobran no se muestran
+                    pending[ordinal] = 0;
+                    break;
+                }
+                shown[free] = Card.fromOrdinal(ordinal);
+                changed[free] = true;
+                pending[ordinal]--;
+            }
+        }
+        int count = 0;
+        for (boolean c : changed) {
+            if (c) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,151 @@
+package edu.univalle.cincuentazo.view;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.CardSet;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+
+import java.util.function.Consumer;
+
+/**
+ * Incremental view of the hand of one seat.
+ * <p>
+ * The view owns a fixed pool of {@link ImageView} nodes, one per card the
+ * hand can hold, that are created and added to the container only once.
+ * Each {@link #update(CardSet)} matches the hand against the cards currently
+ * shown by card identity (see {@link HandSlots}): a card that stays in the
+ * hand keeps its slot, a played card leaves its slot empty and a drawn card
+ * fills the lowest empty slot, so a play followed by a draw touches a single
+ * node. Empty slots are hidden but stay managed, so the scene graph of the
+ * seat never changes structure and the cards do not move when one leaves.
+ * </p>
+ *
+ * <p>
+ * Face-down hands (machine seats) only show and hide card backs, since every
+ * card looks the same. An eliminated seat is hidden with
+ * {@link #setSeatVisible(boolean)}, which keeps the nodes for a new game.
+ * </p>
+ *
+ * @see HandSlots
+ * @see CardImageCache
+ * @since 1.0
+ */
+public final class HandView {
+
+    /** The container of the card nodes. */
+    private final Pane container;
+
+    /** Pooled card nodes, one per slot. */
+    private final ImageView[] slots;
+
+    /** Card held by each slot. */
+    private final HandSlots shown;
+
+    /** Whether the cards are shown face up. */
+    private final boolean faceUp;
+
+    /** The shared card images. */
+    private final CardImageCache images;
+
+    /**
+     * Constructs the view and adds its pooled nodes to the container.
+     * <p>
+     * When the container is a {@link GridPane}, slot {@code i} is placed in
+     * column {@code i} of the first row.
+     * </p>
+     *
+     * @param container the pane that holds the cards of the seat
+     * @param capacity  the maximum number of cards of the hand
+     * @param faceUp    true to show the faces of the cards, false to show their backs
+     * @param width     the display width of each card
+     * @param height    the display height of each card
+     * @param onClick   action run with the clicked card, or null if the cards are not clickable
+     */
+    public HandView(Pane container, int capacity, boolean faceUp, double width, double height,
+                    Consumer<Card> onClick) {
+        this.container = container;
+        this.slots = new ImageView[capacity];
+        this.shown = new HandSlots(capacity);
+        this.faceUp = faceUp;
+        this.images = CardImageCache.getInstance();
+
+        container.getChildren().clear();
+        for (int i = 0; i < capacity; i++) {
+            ImageView slot = new ImageView();
+            slot.setFitWidth(width);
+            slot.setFitHeight(height);
+            slot.setVisible(false);
+            if (!faceUp) {
+                images.showBack(slot);
+            }
+            if (onClick != null) {
+                int index = i;
+                slot.setOnMouseClicked(e -> {
+                    Card card = shown.get(index);
+                    if (card != null) onClick.accept(card);
+                });
+            }
+            if (container instanceof GridPane) {
+                GridPane.setConstraints(slot, i, 0);
+            }
+            slots[i] = slot;
+        }
+        container.getChildren().addAll(slots);
+    }
+
+    /**
+     * Updates the view to show the given hand.
+     * <p>
+     * Only the slots whose card changed are updated, with every copy of a
+     * card when the game uses several decks.
+     * </p>
+     *
+     * @param hand the cards of the seat
+     * @return the number of slots that changed
+     */
+    public int update(CardSet hand) {
+        return render(shown.update(hand));
+    }
+
+    /**
+     * Updates the view to show the hand with the given mask.
+     *
+     * @param cards the mask of the cards of the seat, as given by {@link CardSet#bits()}
+     * @return the number of slots that changed
+     * @see edu.univalle.cincuentazo.model.Game#handProperty(int)
+     */
+    public int update(long cards) {
+        return render(shown.update(cards));
+    }
+
+    /**
+     * Shows the card of every slot that changed in the last update.
+     *
+     * @param changed the number of slots that changed
+     * @return the given number
+     */
+    private int render(int changed) {
+        if (changed == 0) return 0;
+        for (int i = 0; i < slots.length; i++) {
+            if (!shown.isChanged(i)) continue;
+            Card card = shown.get(i);
+            slots[i].setVisible(card != null);
+            if (card != null && faceUp) {
+                images.show(slots[i], card);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Shows or hides the whole seat.
+     *
+     * @param visible false to hide the seat, for example when it is eliminated
+     */
+    public void setSeatVisible(boolean visible) {
+        if (container.isVisible() != visible) {
+            container.setVisible(visible);
+        }
+    }
+}
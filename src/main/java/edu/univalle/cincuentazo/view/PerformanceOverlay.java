@@ -0,0 +1,181 @@
+package edu.univalle.cincuentazo.view;
+
+import edu.univalle.cincuentazo.log.GameLog;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.Pane;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Live frame-time and render-cost overlay for a scene.
+ * <p>
+ * The overlay measures the interval between FX pulses and the CSS/layout
+ * time of each pulse through the scene pulse listeners, and once per second
+ * samples the node count of the scene, the visible card nodes, the number of
+ * decoded images and the heap in use into a {@link RenderMetrics}. Views can
+ * record their own timings into the same metrics.
+ * </p>
+ *
+ * <p>
+ * Measurements are always collected; the overlay itself is hidden until
+ * {@value #TOGGLE_KEY_NAME} is pressed, or shown from the start when the
+ * system property {@code cincuentazo.overlay} is {@code true}. Pressing
+ * {@value #EXPORT_KEY_NAME} writes every sample to a CSV file in the working
+ * directory.
+ * </p>
+ *
+ * @see RenderMetrics
+ * @since 1.0
+ */
+public final class PerformanceOverlay {
+
+    /** Name of the key that shows and hides the overlay. */
+    public static final String TOGGLE_KEY_NAME = "F3";
+
+    /** Name of the key that exports the samples to CSV. */
+    public static final String EXPORT_KEY_NAME = "F4";
+
+    private final Scene scene;
+    private final RenderMetrics metrics;
+    private final Parent[] handContainers;
+    private final Label label = new Label();
+
+    /** Start of the layout pass of the current pulse, or 0. */
+    private long layoutStart;
+
+    /** Start of the previous pulse, or 0. */
+    private long lastPulse;
+
+    /**
+     * Installs the overlay on the given scene.
+     * <p>
+     * The overlay label is added to the root of the scene as an unmanaged
+     * node, so it never affects the layout of the view. The root must be a
+     * {@link Pane}.
+     * </p>
+     *
+     * @param scene          the scene to measure
+     * @param metrics        the metrics to feed
+     * @param handContainers the containers whose visible card nodes are counted, at any depth
+     */
+    public PerformanceOverlay(Scene scene, RenderMetrics metrics, Parent... handContainers) {
+        this.scene = scene;
+        this.metrics = metrics;
+        this.handContainers = handContainers;
+
+        label.setManaged(false);
+        label.setMouseTransparent(true);
+        label.relocate(8, 8);
+        label.setStyle("-fx-font-family: monospace; -fx-font-size: 11px; -fx-text-fill: lime;"
+                + " -fx-background-color: rgba(0,0,0,0.7); -fx-padding: 6;");
+        label.setVisible(Boolean.getBoolean("cincuentazo.overlay"));
+        ((Pane) scene.getRoot()).getChildren().add(label);
+
+        scene.addPreLayoutPulseListener(this::beforeLayout);
+        scene.addPostLayoutPulseListener(this::afterLayout);
+        scene.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.F3) {
+                label.setVisible(!label.isVisible());
+            } else if (e.getCode() == KeyCode.F4) {
+                export();
+            }
+        });
+
+        Timeline sampler = new Timeline(new KeyFrame(Duration.seconds(1), e -> sample()));
+        sampler.setCycleCount(Timeline.INDEFINITE);
+        sampler.play();
+    }
+
+    /**
+     * Returns the metrics fed by this overlay.
+     *
+     * @return the metrics
+     */
+    public RenderMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Writes every sample to a new CSV file in the working directory.
+     *
+     * @return the file written, or null if writing failed
+     */
+    public Path export() {
+        Path file = Paths.get("cincuentazo-rendimiento-" + System.currentTimeMillis() + ".csv");
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            metrics.writeCsv(out);
+            GameLog.info("Métricas exportadas a {}", file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            GameLog.warn("No se pudieron exportar las métricas: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void beforeLayout() {
+        long now = System.nanoTime();
+        if (lastPulse != 0) {
+            metrics.record(RenderMetrics.Timer.PULSE_INTERVAL, now - lastPulse);
+        }
+        lastPulse = now;
+        layoutStart = now;
+    }
+
+    private void afterLayout() {
+        if (layoutStart != 0) {
+            metrics.record(RenderMetrics.Timer.PULSE_LAYOUT, System.nanoTime() - layoutStart);
+            layoutStart = 0;
+        }
+    }
+
+    private void sample() {
+        int handNodes = 0;
+        for (Parent container : handContainers) {
+            handNodes += countVisibleLeaves(container);
+        }
+        Runtime runtime = Runtime.getRuntime();
+        metrics.sample(countNodes(scene.getRoot()), handNodes,
+                CardImageCache.getInstance().getDecodeCount(),
+                runtime.totalMemory() - runtime.freeMemory());
+        if (label.isVisible()) {
+            label.setText(metrics.getSummary());
+            label.toFront();
+        }
+    }
+
+    /**
+     * Counts the visible leaf nodes under a node, so the card nodes of
+     * seats nested in their own row of an area are counted, not the rows.
+     */
+    private static int countVisibleLeaves(Node node) {
+        if (!node.isVisible()) return 0;
+        if (!(node instanceof Parent parent)) return 1;
+        int count = 0;
+        for (Node child : parent.getChildrenUnmodifiable()) {
+            count += countVisibleLeaves(child);
+        }
+        return count;
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,195 @@
+package edu.univalle.cincuentazo.view;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * Collects frame-time and render-cost measurements of the game view.
+ * <p>
+ * Timings are recorded per {@link Timer} in nanoseconds and accumulated in
+ * primitive counters. Every {@link #sample(int, int, int, long)} closes the
+ * current window: it stores one row with the count, average and maximum of
+ * every timer together with the given gauges (node counts, image decodes and
+ * heap), and starts a new window. The last {@value #MAX_ROWS} rows are kept
+ * and can be exported with {@link #writeCsv(Writer)}.
+ * </p>
+ *
+ * <p>
+ * The class has no dependency on JavaFX; {@link PerformanceOverlay} feeds it
+ * from the scene pulse listeners and displays it. All methods are meant to be
+ * called on the JavaFX Application Thread.
+ * </p>
+ *
+ * @see PerformanceOverlay
+ * @since 1.0
+ */
+public final class RenderMetrics {
+
+    /** Measured intervals. */
+    public enum Timer {
+        /** Time between two consecutive FX pulses. */
+        PULSE_INTERVAL,
+        /** CSS and layout time of a pulse. */
+        PULSE_LAYOUT,
+        /** Time spent showing the table card. */
+        UPDATE_VIEW,
+        /** Time spent updating the human hand. */
+        HUMAN_HAND,
+        /** Time spent updating the machine hands. */
+        MACHINE_HANDS
+    }
+
+    /** Maximum number of rows kept for export. */
+    public static final int MAX_ROWS = 3600;
+
+    private static final Timer[] TIMERS = Timer.values();
+
+    private final long[] counts = new long[TIMERS.length];
+    private final long[] totals = new long[TIMERS.length];
+    private final long[] maxima = new long[TIMERS.length];
+
+    /** Samples taken so far, oldest first. */
+    private final Deque<String> rows = new ArrayDeque<>();
+
+    /** Last sample, formatted for display. */
+    private String summary = "";
+
+    /**
+     * Records one measurement.
+     *
+     * @param timer the measured interval
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(Timer timer, long nanos) {
+        int i = timer.ordinal();
+        counts[i]++;
+        totals[i] += nanos;
+        if (nanos > maxima[i]) maxima[i] = nanos;
+    }
+
+    /**
+     * Returns the number of measurements of the current window.
+     *
+     * @param timer the measured interval
+     * @return the count
+     */
+    public long getCount(Timer timer) {
+        return counts[timer.ordinal()];
+    }
+
+    /**
+     * Returns the average of the current window.
+     *
+     * @param timer the measured interval
+     * @return the average in milliseconds, or 0 if there are no measurements
+     */
+    public double getAverageMillis(Timer timer) {
+        int i = timer.ordinal();
+        return counts[i] == 0 ? 0 : totals[i] / (counts[i] * 1e6);
+    }
+
+    /**
+     * Returns the maximum of the current window.
+     *
+     * @param timer the measured interval
+     * @return the maximum in milliseconds
+     */
+    public double getMaxMillis(Timer timer) {
+        return maxima[timer.ordinal()] / 1e6;
+    }
+
+    /**
+     * Closes the current window and stores it as a row.
+     *
+     * @param sceneNodes   the number of nodes of the whole scene
+     * @param handNodes    the number of visible card nodes in the hands
+     * @param imageDecodes the number of images decoded so far
+     * @param heapBytes    the heap in use
+     * @return the row written, in CSV format
+     */
+    public String sample(int sceneNodes, int handNodes, int imageDecodes, long heapBytes) {
+        StringBuilder row = new StringBuilder();
+        StringBuilder text = new StringBuilder();
+        row.append(System.currentTimeMillis());
+        for (Timer timer : TIMERS) {
+            double avg = getAverageMillis(timer);
+            double max = getMaxMillis(timer);
+            row.append(',').append(getCount(timer))
+                    .append(',').append(format(avg))
+                    .append(',').append(format(max));
+            text.append(label(timer)).append(": ")
+                    .append(format(avg)).append(" ms (máx ").append(format(max)).append(")\n");
+        }
+        row.append(',').append(sceneNodes)
+                .append(',').append(handNodes)
+                .append(',').append(imageDecodes)
+                .append(',').append(heapBytes);
+        text.append("Nodos: ").append(sceneNodes).append(" (cartas ").append(handNodes).append(")\n")
+                .append("Imágenes decodificadas: ").append(imageDecodes).append('\n')
+                .append("Heap: ").append(heapBytes >> 20).append(" MB");
+
+        if (rows.size() == MAX_ROWS) rows.removeFirst();
+        rows.addLast(row.toString());
+        summary = text.toString();
+
+        Arrays.fill(counts, 0);
+        Arrays.fill(totals, 0);
+        Arrays.fill(maxima, 0);
+        return row.toString();
+    }
+
+    /**
+     * Returns the last sample formatted for display.
+     *
+     * @return the summary text, empty before the first sample
+     */
+    public String getSummary() {
+        return summary;
+    }
+
+    /**
+     * Returns the number of rows stored.
+     *
+     * @return the row count
+     */
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Writes the header and every stored row in CSV format.
+     *
+     * @param out the destination
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Writer out) throws IOException {
+        out.write("timestamp_ms");
+        for (Timer timer : TIMERS) {
+            String name = timer.name().toLowerCase(Locale.ROOT);
+            out.write("," + name + "_count," + name + "_avg_ms," + name + "_max_ms");
+        }
+        out.write(",scene_nodes,hand_nodes,image_decodes,heap_bytes\n");
+        for (String row : rows) {
+            out.write(row);
+            out.write('\n');
+        }
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.3f", millis);
+    }
+
+    private static String label(Timer timer) {
+        return switch (timer) {
+            case PULSE_INTERVAL -> "Pulso";
+            case PULSE_LAYOUT -> "CSS/layout";
+            case UPDATE_VIEW -> "Carta de mesa";
+            case HUMAN_HAND -> "Mano humana";
+            case MACHINE_HANDS -> "Manos máquina";
+        };
+    }
+}
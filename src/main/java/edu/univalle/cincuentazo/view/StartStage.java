@@ -1,5 +1,6 @@
 package edu.univalle.cincuentazo.view;
 
+import edu.univalle.cincuentazo.log.GameLog;
 import edu.univalle.cincuentazo.controller.StartController;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -44,8 +45,7 @@ public class StartStage extends Stage {
             show();
 
         } catch (Exception e) {
-            e.printStackTrace();
-            System.err.println("Error al cargar la vista de inicio (StartStage).");
+            GameLog.error("Error al cargar la vista de inicio (StartStage).", e);
         }
     }
 }
@@ -4,7 +4,12 @@ module edu.univalle.cincuentazo {
 
     exports edu.univalle.cincuentazo;
     exports edu.univalle.cincuentazo.controller;
+    exports edu.univalle.cincuentazo.log;
     exports edu.univalle.cincuentazo.model;
+    exports edu.univalle.cincuentazo.model.strategy;
+    exports edu.univalle.cincuentazo.replay;
+    exports edu.univalle.cincuentazo.server;
+    exports edu.univalle.cincuentazo.simulation;
 
     opens edu.univalle.cincuentazo.controller to javafx.fxml;
 }
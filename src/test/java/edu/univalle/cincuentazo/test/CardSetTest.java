@@ -0,0 +1,80 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardSetTest {
+
+    @Test
+    void testAddRemoveAndContains() {
+        CardSet set = new CardSet();
+        assertTrue(set.add(Card.D05));
+        assertTrue(set.contains(Card.D05));
+        assertEquals(1, set.size());
+
+        assertTrue(set.remove(Card.D05));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void testCopiesFromSeveralDecks() {
+        CardSet set = new CardSet();
+        set.add(Card.S02);
+        assertTrue(set.add(Card.D05));
+        assertFalse(set.add(Card.D05), "La segunda copia no es la primera de la carta");
+        set.add(Card.D05);
+
+        assertEquals(3, set.count(Card.D05));
+        assertEquals(4, set.size());
+        assertEquals(CardSet.bit(Card.D05) | CardSet.bit(Card.S02), set.bits());
+        assertEquals(CardSet.bit(Card.D05), set.bits(2));
+        assertEquals(java.util.List.of(Card.D05, Card.D05, Card.D05, Card.S02), set.asList());
+        assertEquals(Card.S02, set.get(3));
+        set.add(Card.D05);
+        assertThrows(IllegalStateException.class, () -> set.add(Card.D05), "No hay más de cuatro barajas");
+        assertEquals(4, set.count(Card.D05));
+        set.remove(Card.D05);
+
+        assertTrue(set.remove(Card.D05));
+        assertEquals(2, set.count(Card.D05));
+        assertTrue(set.contains(Card.D05));
+        set.setBits(CardSet.bit(Card.H01));
+        assertEquals(1, set.size());
+        assertEquals(0, set.bits(1));
+    }
+
+    @Test
+    void testSuitAndRankMasks() {
+        assertEquals(13, Long.bitCount(CardSet.suitMask(2)));
+        assertTrue((CardSet.suitMask(2) & CardSet.bit(Card.H07)) != 0);
+        assertEquals(4, Long.bitCount(CardSet.rankMask(1)));
+        assertTrue((CardSet.rankMask(13) & CardSet.bit(Card.S13)) != 0);
+        assertEquals(CardSet.ALL, CardSet.suitMask(0) | CardSet.suitMask(1) | CardSet.suitMask(2) | CardSet.suitMask(3));
+    }
+
+    @Test
+    void testListViewFollowsDeclarationOrder() {
+        CardSet set = new CardSet();
+        set.add(Card.S02);
+        set.add(Card.C10);
+        set.add(Card.H01);
+
+        assertEquals(java.util.List.of(Card.C10, Card.H01, Card.S02), set.asList());
+        set.asList().remove(Card.H01);
+        assertFalse(set.contains(Card.H01));
+        set.asList().clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void testPlayableMaskMatchesCardValues() {
+        Game game = new Game(1);
+        game.setTableSum(45);
+        long playable = game.playableMask();
+        for (Card c : Card.values()) {
+            boolean fits = 45 + game.getCardValue(c) <= 50;
+            assertEquals(fits, (playable & CardSet.bit(c)) != 0, c.name());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.controller.GameController;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameControllerTest {
+
+    @Test
+    void testMachineDelaySetting() {
+        assertEquals(GameController.DEFAULT_MACHINE_DELAY_MILLIS, GameController.parseMachineDelay(null));
+        assertEquals(0, GameController.parseMachineDelay("0"));
+        assertEquals(750, GameController.parseMachineDelay(" 750 "));
+        assertThrows(IllegalArgumentException.class, () -> GameController.parseMachineDelay("-1"));
+        assertThrows(IllegalArgumentException.class, () -> GameController.parseMachineDelay("rápido"));
+    }
+}
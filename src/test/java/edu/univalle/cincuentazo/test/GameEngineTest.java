@@ -0,0 +1,52 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    @Test
+    void testPlayToEndProducesWinner() {
+        for (int machines = 1; machines <= 3; machines++) {
+            for (long seed = 0; seed < 20; seed++) {
+                GameEngine engine = new GameEngine(new Game(machines, seed));
+                IPlayer winner = engine.playToEnd();
+                long active = engine.getGame().getPlayers().stream().filter(p -> !p.isEliminated()).count();
+
+                assertTrue(engine.isGameOver(), "El juego debe terminar");
+                assertTrue(engine.getTurnCount() > 0);
+                // Si los últimos jugadores quedan bloqueados a la vez no hay ganador
+                assertEquals(active == 1, winner != null);
+                if (winner != null) {
+                    assertFalse(winner.isEliminated());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTurnPassesToNextActivePlayer() {
+        GameEngine engine = new GameEngine(new Game(2));
+        Game game = engine.getGame();
+        assertSame(game.getPlayers().get(0), engine.getCurrentPlayer());
+
+        game.eliminatePlayer(game.getPlayers().get(1));
+        engine.endTurn();
+
+        assertSame(game.getPlayers().get(2), engine.getCurrentPlayer());
+    }
+
+    @Test
+    void testPlayTurnKeepsHandSize() {
+        GameEngine engine = new GameEngine(new Game(1));
+        IPlayer first = engine.getCurrentPlayer();
+
+        Move played = engine.playTurn();
+
+        assertNotNull(played);
+        assertFalse(first.getHand().contains(played.getCard()));
+        assertEquals(4, first.getHand().size());
+        assertEquals(1, engine.getTurnCount());
+    }
+}
@@ -0,0 +1,120 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameListenerTest {
+
+    /** Listener that counts every event. */
+    private static class Recorder implements GameListener {
+        int played;
+        int drawn;
+        int recycled;
+        int turns;
+        int gameOvers;
+        int replaced;
+        int lastSum = -1;
+        IPlayer winner;
+        final List<IPlayer> eliminated = new ArrayList<>();
+
+        @Override
+        public void onCardPlayed(Game game, IPlayer player, Card card, int value, int tableSum) {
+            played++;
+            lastSum = tableSum;
+            assertEquals(card, game.getCurrentTableCard());
+            assertFalse(player.getHandSet().contains(card));
+        }
+
+        @Override
+        public void onCardDrawn(Game game, IPlayer player, Card card) {
+            drawn++;
+            assertTrue(player.getHandSet().contains(card));
+        }
+
+        @Override
+        public void onDeckRecycled(Game game, int cards) {
+            recycled++;
+            assertTrue(cards > 0);
+        }
+
+        @Override
+        public void onPlayerEliminated(Game game, IPlayer player) {
+            eliminated.add(player);
+        }
+
+        @Override
+        public void onTurnEnded(Game game, IPlayer player, int turn) {
+            turns = turn;
+        }
+
+        @Override
+        public void onGameOver(Game game, IPlayer w) {
+            gameOvers++;
+            winner = w;
+        }
+
+        @Override
+        public void onStateReplaced(Game game) {
+            replaced++;
+        }
+    }
+
+    @Test
+    void testEventsMatchFinalState() {
+        GameEngine engine = new GameEngine(new Game(3, 17L));
+        Game game = engine.getGame();
+        Recorder recorder = new Recorder();
+        game.addListener(recorder);
+
+        IPlayer winner = engine.playToEnd();
+
+        assertEquals(1, recorder.gameOvers, "El fin del juego se publica una sola vez");
+        assertSame(winner, recorder.winner);
+        assertEquals(game.getEliminationOrder(), recorder.eliminated);
+        assertEquals(game.getRecycleCount(), recorder.recycled);
+        assertEquals(engine.getTurnCount(), recorder.turns);
+        assertTrue(recorder.played > 0);
+        assertTrue(recorder.drawn > 0);
+        assertEquals(game.getTableSum(), recorder.lastSum);
+    }
+
+    @Test
+    void testAceValueIsPublished() throws Exception {
+        Game game = new Game(1, 3L);
+        IPlayer human = game.getPlayers().get(0);
+        int[] value = new int[1];
+        game.addListener(new GameListener() {
+            @Override
+            public void onCardPlayed(Game g, IPlayer player, Card card, int v, int tableSum) {
+                value[0] = v;
+            }
+        });
+
+        game.setHand(human, Card.C01);
+        game.setTableSum(0);
+        game.playCard(human, Card.C01, 10);
+
+        assertEquals(10, value[0]);
+    }
+
+    @Test
+    void testRemovedListenerAndResetEvents() {
+        GameEngine engine = new GameEngine(new Game(2, 5L));
+        Game game = engine.getGame();
+        Recorder recorder = new Recorder();
+        game.addListener(recorder);
+
+        engine.reset();
+        assertEquals(1, recorder.replaced);
+
+        game.removeListener(recorder);
+        engine.playToEnd();
+        assertEquals(0, recorder.played);
+        assertEquals(0, recorder.gameOvers);
+    }
+}
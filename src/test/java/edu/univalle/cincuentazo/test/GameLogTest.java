@@ -0,0 +1,100 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.log.GameLog;
+import edu.univalle.cincuentazo.log.Level;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLogTest {
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private Level previous;
+
+    @BeforeEach
+    void redirect() {
+        GameLog.flush();
+        previous = GameLog.getLevel();
+        GameLog.setOutput(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void restore() {
+        GameLog.flush();
+        GameLog.setOutput(System.out);
+        GameLog.setLevel(previous);
+    }
+
+    private String written() {
+        GameLog.flush();
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testTemplateIsFormattedByWriter() {
+        GameLog.setLevel(Level.INFO);
+        GameLog.info("{} jugó {} (total: {})", "Máquina 1", "7♣", 42);
+
+        String out = written();
+        assertTrue(out.contains("INFO"));
+        assertTrue(out.contains("Máquina 1 jugó 7♣ (total: 42)"), out);
+    }
+
+    @Test
+    void testDisabledLevelsAreNotWritten() {
+        GameLog.setLevel(Level.WARN);
+        GameLog.debug("oculto {}", 1);
+        GameLog.info("oculto {}", 2);
+        GameLog.warn("visible {}", 3);
+
+        String out = written();
+        assertFalse(out.contains("oculto"));
+        assertTrue(out.contains("visible 3"));
+        assertFalse(GameLog.isEnabled(Level.INFO));
+    }
+
+    @Test
+    void testThrowingArgumentDoesNotStopTheWriter() {
+        GameLog.setLevel(Level.INFO);
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("toString roto");
+            }
+        };
+        GameLog.info("boom {}", broken);
+        GameLog.info("después {}", 1);
+
+        String out = written();
+        assertTrue(out.contains("boom <error al escribir el registro: java.lang.IllegalStateException>"), out);
+        assertTrue(out.contains("después 1"), "El escritor sigue vivo tras el error");
+    }
+
+    @Test
+    void testConcurrentProducersKeepEveryEvent() throws InterruptedException {
+        GameLog.setLevel(Level.INFO);
+        long droppedBefore = GameLog.getDroppedCount();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    GameLog.info("hilo {} evento {}", id, i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long lines = written().lines().filter(l -> l.contains("evento")).count();
+        assertEquals(4000 - (GameLog.getDroppedCount() - droppedBefore), lines);
+    }
+}
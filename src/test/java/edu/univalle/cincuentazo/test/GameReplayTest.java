@@ -0,0 +1,115 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.*;
+import edu.univalle.cincuentazo.replay.GameRecordReader;
+import edu.univalle.cincuentazo.replay.GameRecordWriter;
+import edu.univalle.cincuentazo.replay.GameRecorder;
+import edu.univalle.cincuentazo.replay.RecordedGame;
+import edu.univalle.cincuentazo.simulation.SimulationResult;
+import edu.univalle.cincuentazo.simulation.SimulationRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameReplayTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSeekMatchesLiveGame() throws IOException {
+        Path file = dir.resolve("partidas.bin");
+        List<List<GameSnapshot>> live = new ArrayList<>();
+        int recycles = 0;
+        try (GameRecordWriter writer = new GameRecordWriter(file)) {
+            for (long seed = 0; seed < 30; seed++) {
+                // Intervalo largo: solo las recargas del mazo generan fotogramas clave
+                int interval = seed % 2 == 0 ? 5 : 10_000;
+                GameEngine engine = new GameEngine(new Game(3, seed));
+                engine.getGame().addListener(new GameRecorder(engine, seed, writer, interval));
+                List<GameSnapshot> states = new ArrayList<>();
+                states.add(engine.snapshot());
+                while (!engine.isGameOver()) {
+                    engine.playTurn();
+                    states.add(engine.snapshot());
+                }
+                recycles += engine.getGame().getRecycleCount();
+                live.add(states);
+            }
+        }
+        assertTrue(recycles > 0, "Las partidas deben incluir recargas del mazo");
+
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            assertEquals(live.size(), reader.getGameCount());
+            for (int i = 0; i < live.size(); i++) {
+                RecordedGame recorded = reader.getGame(i);
+                List<GameSnapshot> states = live.get(i);
+                assertEquals(i, recorded.getSeed());
+                assertEquals(states.size() - 1, recorded.getTurnCount());
+
+                GameEngine engine = recorded.newEngine();
+                for (int turn = states.size() - 1; turn >= 0; turn -= 3) {
+                    recorded.seek(engine, turn);
+                    assertEquals(states.get(turn), engine.snapshot(), "Partida " + i + ", turno " + turn);
+                }
+                GameEngine end = recorded.replayTo(recorded.getTurnCount());
+                assertTrue(end.isGameOver());
+                IPlayer winner = end.getGame().getWinner();
+                assertEquals(recorded.getWinnerSeat(), winner == null ? -1 : end.getGame().getPlayers().indexOf(winner));
+            }
+        }
+    }
+
+    @Test
+    void testSimulatedGamesAreRecorded() throws IOException {
+        Path file = dir.resolve("simulacion.bin");
+        SimulationResult result;
+        try (GameRecordWriter writer = new GameRecordWriter(file)) {
+            result = new SimulationRunner(2, 2).run(2000, 5L, writer);
+            assertEquals(2000, writer.getRecordCount());
+        }
+
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            assertEquals(2000, reader.getGameCount());
+            long turns = 0;
+            long noWinner = 0;
+            for (int i = 0; i < reader.getGameCount(); i++) {
+                RecordedGame game = reader.getGame(i);
+                assertEquals(3, game.getSeats());
+                turns += game.getTurnCount();
+                if (game.getWinnerSeat() < 0) noWinner++;
+            }
+            assertEquals(result.getAverageTurns(), (double) turns / 2000, 1e-9);
+            assertEquals(result.getGamesWithoutWinner(), noWinner);
+        }
+    }
+
+    @Test
+    void testTruncatedRecordIsIgnored() throws IOException {
+        Path file = dir.resolve("cortado.bin");
+        try (GameRecordWriter writer = new GameRecordWriter(file)) {
+            for (long seed = 0; seed < 3; seed++) {
+                GameEngine engine = new GameEngine(new Game(1, seed));
+                engine.getGame().addListener(new GameRecorder(engine, seed, writer));
+                engine.playToEnd();
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(10).putInt(0x43353047).putInt(500).flip());
+        }
+
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            assertEquals(3, reader.getGameCount());
+            assertTrue(reader.getGame(2).replayTo(reader.getGame(2).getTurnCount()).isGameOver());
+        }
+    }
+}
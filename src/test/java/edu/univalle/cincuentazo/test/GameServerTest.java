@@ -0,0 +1,145 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.server.GameServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+
+    /** Blocking loopback client that plays the first legal card. */
+    private static class Client implements AutoCloseable {
+        final Socket socket;
+        final BufferedReader in;
+        final Writer out;
+
+        Client(int port) throws IOException {
+            socket = new Socket("127.0.0.1", port);
+            socket.setSoTimeout(10_000);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        void send(String line) throws IOException {
+            out.write(line + "\n");
+            out.flush();
+        }
+
+        String expect(String prefix) throws IOException {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith(prefix)) return line;
+            }
+            throw new IOException("Conexión cerrada esperando " + prefix);
+        }
+
+        /** Plays one game and returns the winner seat. */
+        int play(int machines) throws IOException {
+            send("JOIN tester " + machines);
+            assertTrue(expect("WELCOME").endsWith(" " + (machines + 1)));
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] words = line.split(" ");
+                if (words[0].equals("GAMEOVER")) return Integer.parseInt(words[1]);
+                // Quedarse sin robar porque el mazo no se puede recargar no es un error del protocolo
+                if (words[0].equals("ERROR") && !line.contains("mazo")) fail(line);
+                if (!words[0].equals("TURN")) continue;
+
+                int sum = Integer.parseInt(words[1]);
+                String move = null;
+                for (int i = 2; i < words.length && move == null; i++) {
+                    Card card = Card.valueOf(words[i]);
+                    if (card.isAce() && sum + 10 <= 50) move = card.name() + " 10";
+                    else if (sum + card.getValue() <= 50) move = card.name();
+                }
+                assertNotNull(move, "El servidor no debe dar el turno a quien no puede jugar");
+                send("PLAY " + move);
+                send("DRAW");
+            }
+            throw new IOException("Conexión cerrada durante la partida");
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    @Test
+    void testConcurrentLoopbackGamesFinish() throws Exception {
+        try (GameServer server = new GameServer(0, 2, 1L)) {
+            server.start();
+            ExecutorService clients = Executors.newFixedThreadPool(16);
+            List<Future<?>> results = new ArrayList<>();
+            for (int c = 0; c < 32; c++) {
+                int machines = 1 + c % 3;
+                results.add(clients.submit(() -> {
+                    try (Client client = new Client(server.getPort())) {
+                        for (int game = 0; game < 2; game++) {
+                            int winner = client.play(machines);
+                            assertTrue(winner >= -1 && winner <= machines);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            clients.shutdown();
+
+            awaitTrue(() -> server.getFinishedGameCount() == 64);
+            assertEquals(0, server.getActiveTableCount());
+            assertEquals(0, server.getAbandonedGameCount());
+            awaitTrue(() -> server.getSessionCount() == 0);
+        }
+    }
+
+    @Test
+    void testInvalidCommandsAndDisconnection() throws Exception {
+        try (GameServer server = new GameServer(0, 1, 2L)) {
+            server.start();
+            try (Client client = new Client(server.getPort())) {
+                client.send("DRAW");
+                assertEquals("ERROR no estás en una mesa", client.in.readLine());
+                client.send("BAILAR");
+                assertTrue(client.in.readLine().startsWith("ERROR comando desconocido"));
+                client.send("JOIN tester 7");
+                assertTrue(client.in.readLine().startsWith("ERROR uso: JOIN"));
+
+                client.send("JOIN tester 2");
+                client.expect("TURN");
+                client.send("DRAW");
+                assertEquals("ERROR debes jugar antes de robar", client.expect("ERROR"));
+                client.send("PLAY X99");
+                assertTrue(client.expect("ERROR").startsWith("ERROR uso: PLAY"));
+                assertEquals(1, server.getActiveTableCount());
+            }
+            awaitTrue(() -> server.getAbandonedGameCount() == 1);
+            assertEquals(0, server.getActiveTableCount());
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Tiempo de espera agotado");
+            Thread.sleep(10);
+        }
+    }
+}
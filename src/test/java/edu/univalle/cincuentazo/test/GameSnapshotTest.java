@@ -0,0 +1,123 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+
+    @Test
+    void testRestoreUndoesWholeGame() {
+        GameEngine engine = new GameEngine(new Game(3, 21L));
+        Game game = engine.getGame();
+        GameSnapshot start = engine.snapshot();
+        Card top = game.getCurrentTableCard();
+        int handSize = game.getPlayers().get(0).getHand().size();
+
+        engine.playToEnd();
+        assertNotEquals(start, engine.snapshot());
+
+        engine.restore(start);
+
+        assertEquals(start, engine.snapshot());
+        assertEquals(top, game.getCurrentTableCard());
+        assertEquals(handSize, game.getPlayers().get(0).getHand().size());
+        assertTrue(game.getEliminationOrder().isEmpty());
+        assertFalse(game.isGameOver());
+        assertEquals(0, engine.getTurnCount());
+    }
+
+    @Test
+    void testSnapshotIntoReusedInstance() {
+        GameEngine engine = new GameEngine(new Game(2, 4L));
+        GameSnapshot saved = new GameSnapshot(3);
+        GameSnapshot scratch = new GameSnapshot(3);
+
+        engine.playTurn();
+        engine.snapshot(saved);
+        for (int i = 0; i < 5 && !engine.isGameOver(); i++) {
+            engine.playTurn();
+            engine.snapshot(scratch);
+            engine.restore(saved);
+            assertEquals(saved, engine.snapshot(scratch));
+        }
+        assertThrows(IllegalArgumentException.class, () -> engine.restore(new GameSnapshot(4)));
+    }
+
+    @Test
+    void testBinaryEncodingRoundTrip() {
+        GameEngine engine = new GameEngine(new Game(3, 9L));
+        engine.playToEnd();
+        GameSnapshot snapshot = engine.snapshot();
+
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.MAX_ENCODED_SIZE);
+        snapshot.writeTo(buffer);
+        assertEquals(snapshot.encodedSize(), buffer.position());
+        buffer.flip();
+
+        GameSnapshot decoded = GameSnapshot.readFrom(buffer);
+        assertEquals(snapshot, decoded);
+        assertEquals(snapshot.hashCode(), decoded.hashCode());
+        assertEquals(snapshot.getEliminatedCount(), engine.getGame().getEliminationOrder().size());
+    }
+
+    private static byte[] encode(GameSnapshot snapshot) {
+        ByteBuffer buffer = ByteBuffer.allocate(snapshot.encodedSize());
+        snapshot.writeTo(buffer);
+        return buffer.array();
+    }
+
+    private static void assertRejected(byte[] bytes, String message) {
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.readFrom(ByteBuffer.wrap(bytes)), message);
+    }
+
+    @Test
+    void testCorruptEncodingsAreRejected() {
+        GameEngine engine = new GameEngine(new Game(3, 9L));
+        GameSnapshot start = engine.snapshot();
+        int deckSize = start.getDeckSize();
+        int tableAt = 2 + deckSize;
+        int topAt = tableAt + 8 + 8 * 4 + 4;
+
+        byte[] bytes = encode(start);
+        bytes[2] = 52;
+        assertRejected(bytes, "Ordinal de carta fuera de rango");
+
+        bytes = encode(start);
+        bytes[2] = bytes[3];
+        assertRejected(bytes, "La misma carta dos veces en el mazo");
+
+        bytes = encode(start);
+        bytes[tableAt] = (byte) 0x80;
+        assertRejected(bytes, "Bit 63 en la máscara de la mesa");
+
+        bytes = encode(start);
+        ByteBuffer.wrap(bytes).putLong(tableAt + 8, start.getHand(1) | start.getHand(0));
+        assertRejected(bytes, "La misma carta en dos manos");
+
+        bytes = encode(start);
+        bytes[topAt] = (byte) start.getDeckCard(0).ordinal();
+        assertRejected(bytes, "La carta superior no está en la mesa");
+
+        bytes = encode(start);
+        bytes[topAt + 2 + 4] = 4;
+        assertRejected(bytes, "Turno de un asiento que no existe");
+
+        engine.playToEnd();
+        GameSnapshot end = engine.snapshot();
+        assertTrue(end.getEliminatedCount() >= 2);
+        int eliminatedAt = 2 + end.getDeckSize() + 8 + 8 * 4 + 4 + 2;
+        bytes = encode(end);
+        bytes[eliminatedAt + 1] = bytes[eliminatedAt];
+        assertRejected(bytes, "Un asiento eliminado dos veces");
+
+        bytes = encode(end);
+        bytes[eliminatedAt] = 9;
+        assertRejected(bytes, "Asiento eliminado fuera de rango");
+
+        assertEquals(end, GameSnapshot.readFrom(ByteBuffer.wrap(encode(end))));
+    }
+}
@@ -21,7 +21,7 @@ class GameTest {
     @Test
     void testDrawCardReducesDeck() {
         // vaciamos la mano para permitir robar
-        player.getHand().clear();
+        game.setHand(player);
 
         int before = getDeckSize(game);
         game.drawCard(player);
@@ -44,20 +44,116 @@ class GameTest {
         }
     }
 
+    @Test
+    void testPlayCardNotInHandThrowsException() {
+        Card missing = null;
+        for (Card c : Card.values()) {
+            if (!player.getHandSet().contains(c)) {
+                missing = c;
+                break;
+            }
+        }
+        Card card = missing;
+        int sum = game.getTableSum();
+        int tableSize = game.getTableCards().size();
+
+        assertThrows(InvalidCardPlayException.class, () -> game.playCard(player, card));
+        assertEquals(sum, game.getTableSum());
+        assertEquals(tableSize, game.getTableCards().size(), "La carta no debe llegar a la mesa");
+        // Con una sola baraja nadie puede tener dos copias de la misma carta
+        Card held = player.getHandSet().get(0);
+        assertThrows(IllegalStateException.class, () -> game.setHand(player, held, held));
+    }
+
+    @Test
+    void testSeatedHandsOnlyChangeThroughTheGame() {
+        Card card = player.getHandSet().get(0);
+        assertThrows(UnsupportedOperationException.class, () -> player.addCard(Card.S13));
+        assertThrows(UnsupportedOperationException.class, () -> player.removeCard(card));
+        assertThrows(UnsupportedOperationException.class, () -> player.getHand().clear());
+        assertThrows(UnsupportedOperationException.class, () -> player.getHandSet().setBits(0L));
+        assertThrows(UnsupportedOperationException.class, () -> game.getTableCards().clear());
+
+        game.setHand(player, Card.C05);
+        assertEquals(CardSet.bit(Card.C05), game.handProperty(0).get(), "El gancho de pruebas publica la mano");
+        assertEquals(1, game.handSizeProperty(0).get());
+    }
+
     @Test
     void testEliminatePlayerWhenCannotPlay() {
-        player.getHand().clear();
+        game.setHand(player);
         assertTrue(game.mustBeEliminated(player));
     }
 
+    @Test
+    void testDrawRecyclesTableWhenDeckIsEmpty() throws InvalidCardPlayException {
+        game.setTableSum(-1000); // permitir jugar cualquier carta
+        for (Card c : new java.util.ArrayList<>(player.getHand())) {
+            game.playCard(player, c);
+        }
+        while (getDeckSize(game) > 0) {
+            game.setHand(player);
+            game.drawCard(player);
+        }
+
+        game.setHand(player);
+        game.drawCard(player);
+
+        assertEquals(1, player.getHand().size());
+        assertEquals(3, getDeckSize(game), "El mazo debe recargarse con la mesa menos la carta superior");
+        assertEquals(1, game.getTableCards().size());
+        assertTrue(game.getTableCards().contains(game.getCurrentTableCard()));
+    }
+
+    @Test
+    void testDrawFailsWhenNothingToRecycle() {
+        while (getDeckSize(game) > 0) {
+            game.setHand(player);
+            game.drawCard(player);
+        }
+        game.setHand(player);
+        assertThrows(DeckEmptyException.class, () -> game.drawCard(player));
+    }
+
+    @Test
+    void testAceChoiceDoesNotChangeCardValue() throws InvalidCardPlayException {
+        game.setHand(player, Card.H01);
+        game.setTableSum(0);
+
+        game.playCard(player, Card.H01, 10);
+
+        assertEquals(10, game.getTableSum());
+        assertEquals(1, game.getCardValue(Card.H01), "El As debe conservar su valor por defecto");
+        assertEquals(1, new Game(1).getCardValue(Card.H01));
+    }
+
+    @Test
+    void testCardValueOverrideIsPerGame() {
+        game.setCardValue(Card.C05, 7);
+        assertEquals(7, game.getCardValue(Card.C05));
+        assertEquals(5, new Game(1).getCardValue(Card.C05), "Otros juegos no deben verse afectados");
+        assertEquals(-10, game.getCardValue(Card.S12));
+    }
+
+    @Test
+    void testSameSeedReplaysSameGame() {
+        GameEngine first = new GameEngine(new Game(3, 42L));
+        GameEngine second = new GameEngine(new Game(3, 42L));
+        assertEquals(first.getGame().getCurrentTableCard(), second.getGame().getCurrentTableCard());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(first.getGame().getPlayers().get(i).getHand(), second.getGame().getPlayers().get(i).getHand());
+        }
+
+        IPlayer firstWinner = first.playToEnd();
+        IPlayer secondWinner = second.playToEnd();
+
+        assertEquals(first.getTurnCount(), second.getTurnCount());
+        assertEquals(firstWinner.getName(), secondWinner.getName());
+        assertEquals(first.getGame().getTableSum(), second.getGame().getTableSum());
+    }
+
     // helper para acceder al tamaño del mazo
     private int getDeckSize(Game g) {
-        try {
-            var field = Game.class.getDeclaredField("deck");
-            field.setAccessible(true);
-            return ((java.util.List<?>) field.get(g)).size();
-        } catch (Exception e) {
-            return -1;
-        }
+        return g.getDeckSize();
     }
 }
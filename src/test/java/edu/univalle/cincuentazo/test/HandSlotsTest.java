@@ -0,0 +1,53 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.Card;
+import edu.univalle.cincuentazo.model.CardSet;
+import edu.univalle.cincuentazo.view.HandSlots;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandSlotsTest {
+
+    private static long mask(Card... cards) {
+        long mask = 0;
+        for (Card card : cards) {
+            mask |= CardSet.bit(card);
+        }
+        return mask;
+    }
+
+    @Test
+    void testPlayAndDrawChangeOneSlot() {
+        HandSlots slots = new HandSlots(4);
+        assertEquals(4, slots.update(mask(Card.C05, Card.D13, Card.H01, Card.S04)));
+        assertEquals(0, slots.update(mask(Card.C05, Card.D13, Card.H01, Card.S04)));
+
+        // Juega el 5 de tréboles y roba el 2 de picas
+        assertEquals(1, slots.update(mask(Card.D13, Card.H01, Card.S04, Card.S02)));
+        assertEquals(Card.S02, slots.get(0), "La carta robada ocupa el espacio libre");
+        assertTrue(slots.isChanged(0));
+        assertEquals(Card.D13, slots.get(1), "Las demás cartas no se mueven");
+        assertFalse(slots.isChanged(1));
+
+        // Jugar sin robar deja el espacio vacío
+        assertEquals(1, slots.update(mask(Card.S02, Card.H01, Card.S04)));
+        assertNull(slots.get(1));
+        assertEquals(Card.H01, slots.get(2));
+    }
+
+    @Test
+    void testCopiesTakeTheirOwnSlots() {
+        HandSlots slots = new HandSlots(4);
+        CardSet hand = new CardSet();
+        hand.add(Card.D05);
+        hand.add(Card.D05);
+        hand.add(Card.C09);
+        assertEquals(3, slots.update(hand));
+
+        hand.remove(Card.D05);
+        assertEquals(1, slots.update(hand), "Solo se vacía el espacio de una copia");
+        assertEquals(0, slots.update(hand));
+        assertEquals(1, slots.update(hand.bits() & ~CardSet.bit(Card.C09)));
+    }
+}
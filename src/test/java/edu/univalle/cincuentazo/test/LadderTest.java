@@ -0,0 +1,86 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.RuleSet;
+import edu.univalle.cincuentazo.model.strategy.GreedyHighStrategy;
+import edu.univalle.cincuentazo.model.strategy.GreedyLowStrategy;
+import edu.univalle.cincuentazo.model.strategy.KeepAcesStrategy;
+import edu.univalle.cincuentazo.model.strategy.Strategy;
+import edu.univalle.cincuentazo.simulation.Ladder;
+import edu.univalle.cincuentazo.simulation.Standing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LadderTest {
+
+    private static Ladder ladder(int seats, int parallelism) {
+        Ladder ladder = new Ladder(RuleSet.STANDARD.withSeats(seats), parallelism);
+        ladder.register("primera", () -> Strategy.FIRST_PLAYABLE);
+        ladder.register("voraz-baja", GreedyLowStrategy::new);
+        ladder.register("voraz-alta", GreedyHighStrategy::new);
+        ladder.register("guarda-ases", KeepAcesStrategy::new);
+        return ladder;
+    }
+
+    @Test
+    void testRatingsDependOnlyOnSeed() {
+        List<Standing> single = ladder(3, 1).run(1000, 21L);
+        List<Standing> parallel = ladder(3, 4).run(1000, 21L);
+
+        long games = 0;
+        for (int i = 0; i < single.size(); i++) {
+            assertEquals(single.get(i).getName(), parallel.get(i).getName());
+            assertEquals(single.get(i).getRating(), parallel.get(i).getRating());
+            assertEquals(single.get(i).getWins(), parallel.get(i).getWins());
+            assertTrue(single.get(i).getDeviation() < Ladder.INITIAL_DEVIATION, "Jugar reduce la incertidumbre");
+            games += single.get(i).getGames();
+        }
+        // Cada partida son tres juegos de tres jugadores
+        assertEquals(1000 * 3 * 3, games);
+        assertTrue(single.get(0).getRating() >= single.get(single.size() - 1).getRating());
+    }
+
+    @Test
+    void testSeatRotationCancelsFirstPlayerAdvantage() {
+        Ladder ladder = new Ladder(RuleSet.STANDARD.withSeats(2), 2);
+        ladder.register("a", () -> Strategy.FIRST_PLAYABLE);
+        ladder.register("b", () -> Strategy.FIRST_PLAYABLE);
+        List<Standing> standings = ladder.run(2000, 3L);
+
+        // La misma estrategia juega el mismo reparto desde ambos asientos
+        assertEquals(standings.get(0).getWins(), standings.get(1).getWins());
+        assertTrue(standings.get(0).getLowerBound() < standings.get(1).getUpperBound());
+    }
+
+    @Test
+    void testStandingsPersistBetweenRuns(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("ladder.txt");
+        Ladder first = ladder(4, 2);
+        first.run(200, 5L);
+        first.save(file);
+
+        Ladder second = new Ladder(RuleSet.STANDARD, 2);
+        second.register("primera", () -> Strategy.FIRST_PLAYABLE);
+        second.load(file);
+        assertEquals(first.getStandings().toString(), second.getStandings().toString());
+
+        second.save(file);
+        Files.writeString(file, "basura\n", java.nio.file.StandardOpenOption.APPEND);
+        assertThrows(IOException.class, () -> new Ladder(RuleSet.STANDARD).load(file));
+    }
+
+    @Test
+    void testInvalidRegistrationsThrowException() {
+        Ladder ladder = new Ladder(RuleSet.STANDARD, 1);
+        ladder.register("primera", () -> Strategy.FIRST_PLAYABLE);
+        assertThrows(IllegalArgumentException.class, () -> ladder.register("primera", GreedyLowStrategy::new));
+        assertThrows(IllegalArgumentException.class, () -> ladder.register("con\ttab", GreedyLowStrategy::new));
+        assertThrows(IllegalArgumentException.class, () -> ladder.run(10, 1L), "Faltan estrategias para cuatro puestos");
+    }
+}
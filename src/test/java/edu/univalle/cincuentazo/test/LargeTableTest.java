@@ -0,0 +1,93 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.*;
+import edu.univalle.cincuentazo.model.strategy.IsmctsStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LargeTableTest {
+
+    private static final RuleSet SIXTEEN = RuleSet.STANDARD.withDecks(2).withSeats(16);
+
+    private static List<IPlayer> machines(int count) {
+        List<IPlayer> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new MachinePlayer("Máquina " + i));
+        }
+        return players;
+    }
+
+    private static int cardsInPlay(Game game) {
+        int cards = game.getDeckSize() + game.getTableCards().size();
+        for (IPlayer player : game.getPlayers()) {
+            cards += player.getHandSet().size();
+        }
+        return cards;
+    }
+
+    @Test
+    void testSixteenSeatsWithTwoDecksFinish() {
+        for (long seed = 0; seed < 10; seed++) {
+            Game game = new Game(machines(16), new SplittableRandom(seed), SIXTEEN);
+            GameEngine engine = new GameEngine(game);
+            assertEquals(104, cardsInPlay(game));
+
+            while (!engine.isGameOver()) {
+                engine.playTurn();
+                assertEquals(104, cardsInPlay(game), "Las cartas no se crean ni se pierden");
+                for (IPlayer player : game.getPlayers()) {
+                    // El índice incremental debe haber eliminado a todo el que quedó bloqueado
+                    assertFalse(!player.isEliminated() && game.mustBeEliminated(player) && !game.isGameOver());
+                }
+            }
+            long active = game.getPlayers().stream().filter(p -> !p.isEliminated()).count();
+            assertEquals(active == 1, game.getWinner() != null);
+            assertEquals(16 - active, game.getEliminationOrder().size());
+        }
+    }
+
+    @Test
+    void testSnapshotKeepsDuplicateCards() {
+        Game game = new Game(machines(16), new SplittableRandom(3), SIXTEEN);
+        GameEngine engine = new GameEngine(game);
+        for (int turn = 0; turn < 40 && !engine.isGameOver(); turn++) {
+            engine.playTurn();
+        }
+        GameSnapshot snapshot = engine.snapshot();
+        assertEquals(2, snapshot.getDecks());
+        assertThrows(IllegalStateException.class, () -> snapshot.writeTo(ByteBuffer.allocate(4096)));
+
+        List<List<Card>> hands = new ArrayList<>();
+        game.getPlayers().forEach(p -> hands.add(p.getHand()));
+        int sum = game.getTableSum();
+        engine.playToEnd();
+
+        engine.restore(snapshot);
+        assertEquals(sum, game.getTableSum());
+        for (int seat = 0; seat < 16; seat++) {
+            assertEquals(hands.get(seat), game.getPlayers().get(seat).getHand());
+        }
+        assertEquals(104, cardsInPlay(game));
+        assertEquals(snapshot, engine.snapshot());
+    }
+
+    @Test
+    void testIsmctsPlaysLargeTable() {
+        try (IsmctsStrategy ismcts = new IsmctsStrategy(1, 4L)) {
+            List<IPlayer> players = machines(12);
+            MachinePlayer searcher = new MachinePlayer("ISMCTS", ismcts, 5_000_000L);
+            players.set(0, searcher);
+            Game game = new Game(players, new SplittableRandom(9), SIXTEEN.withSeats(12));
+            Move move = ismcts.chooseMove(game, searcher, System.nanoTime() + 30_000_000L);
+
+            assertTrue(game.isLegal(searcher, move));
+            assertTrue(ismcts.getLastPlayouts() > 0, "Debe ejecutar simulaciones");
+        }
+    }
+}
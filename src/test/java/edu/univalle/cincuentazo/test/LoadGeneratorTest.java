@@ -0,0 +1,44 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.server.GameServer;
+import edu.univalle.cincuentazo.server.LoadGenerator;
+import edu.univalle.cincuentazo.server.LoadReport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    @Test
+    void testEveryClientFinishesWithoutErrors() throws Exception {
+        try (GameServer server = new GameServer(0, 2, 4L)) {
+            server.start();
+            LoadReport report = new LoadGenerator(server.getPort(), 200, 3, 9L).run(60_000);
+
+            assertEquals(600, report.getGames());
+            assertEquals(0, report.getErrors(), "Los clientes solo hacen jugadas legales");
+            assertEquals(0, report.getFailedClients());
+            assertTrue(report.getCommands() > 2 * 600, "Cada juego tiene al menos una jugada y un robo");
+            assertTrue(report.getP50Nanos() > 0);
+            assertTrue(report.getP50Nanos() <= report.getP99Nanos());
+            assertTrue(report.getP99Nanos() <= report.getP999Nanos());
+            assertTrue(report.getP999Nanos() <= report.getMaxNanos());
+            assertTrue(report.getCommandsPerSecond() > 0);
+        }
+    }
+
+    @Test
+    void testUnreachableServerCountsFailedClients() throws Exception {
+        int port;
+        try (GameServer server = new GameServer(0, 1, 1L)) {
+            server.start();
+            port = server.getPort();
+        }
+        LoadGenerator generator = new LoadGenerator(port, 5, 1, 1L);
+        LoadReport report = generator.run(5_000);
+
+        assertEquals(5, report.getFailedClients());
+        assertEquals(0, report.getGames());
+        assertThrows(IllegalStateException.class, () -> generator.run(1_000));
+    }
+}
@@ -0,0 +1,72 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObservableStateTest {
+
+    @Test
+    void testValuesFollowTheGame() {
+        GameEngine engine = new GameEngine(new Game(3, 12L));
+        Game game = engine.getGame();
+        List<Integer> sums = new ArrayList<>();
+        int[] handChanges = new int[4];
+        int[] eliminations = new int[4];
+        game.tableSumProperty().addListener((old, sum) -> {
+            assertNotEquals(old, sum, "Solo se notifican cambios reales");
+            sums.add(sum);
+        });
+        for (int seat = 0; seat < 4; seat++) {
+            int s = seat;
+            game.handProperty(s).addListener((old, cards) -> {
+                assertEquals(game.getPlayers().get(s).getHandSet().bits(), cards);
+                handChanges[s]++;
+            });
+            game.eliminatedProperty(s).addListener((old, out) -> eliminations[s]++);
+        }
+
+        while (!engine.isGameOver()) {
+            engine.playTurn();
+            assertEquals(game.getTableSum(), game.tableSumProperty().get());
+            assertEquals(game.getCurrentTableCard(), game.topCardProperty().get());
+            for (int seat = 0; seat < 4; seat++) {
+                IPlayer p = game.getPlayers().get(seat);
+                assertEquals(p.getHandSet().bits(), game.handProperty(seat).get());
+                assertEquals(p.isEliminated(), game.eliminatedProperty(seat).get());
+            }
+        }
+
+        assertFalse(sums.isEmpty());
+        assertEquals(game.getTableSum(), sums.get(sums.size() - 1));
+        for (int seat = 0; seat < 4; seat++) {
+            assertTrue(handChanges[seat] > 0);
+            assertEquals(game.getPlayers().get(seat).isEliminated() ? 1 : 0, eliminations[seat]);
+        }
+    }
+
+    @Test
+    void testRestoreRepublishesState() {
+        GameEngine engine = new GameEngine(new Game(1, 3L));
+        Game game = engine.getGame();
+        GameSnapshot start = engine.snapshot();
+        long startHand = game.handProperty(0).get();
+        Card startTop = game.topCardProperty().get();
+        engine.playToEnd();
+
+        List<Card> tops = new ArrayList<>();
+        game.topCardProperty().addListener((old, top) -> tops.add(top));
+        engine.restore(start);
+
+        assertEquals(startHand, game.handProperty(0).get());
+        assertEquals(start.getTableSum(), game.tableSumProperty().get());
+        assertFalse(game.eliminatedProperty(0).get());
+        assertFalse(game.eliminatedProperty(1).get());
+        assertEquals(startTop, game.topCardProperty().get());
+        assertTrue(tops.size() <= 1);
+    }
+}
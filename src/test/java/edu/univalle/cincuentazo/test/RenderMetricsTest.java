@@ -0,0 +1,45 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.view.RenderMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderMetricsTest {
+
+    @Test
+    void testSampleAggregatesAndResetsWindow() {
+        RenderMetrics metrics = new RenderMetrics();
+        metrics.record(RenderMetrics.Timer.UPDATE_VIEW, 1_000_000);
+        metrics.record(RenderMetrics.Timer.UPDATE_VIEW, 3_000_000);
+
+        assertEquals(2, metrics.getCount(RenderMetrics.Timer.UPDATE_VIEW));
+        assertEquals(2.0, metrics.getAverageMillis(RenderMetrics.Timer.UPDATE_VIEW), 1e-9);
+        assertEquals(3.0, metrics.getMaxMillis(RenderMetrics.Timer.UPDATE_VIEW), 1e-9);
+
+        String row = metrics.sample(120, 8, 1, 64L << 20);
+        assertTrue(row.endsWith(",120,8,1," + (64L << 20)));
+        assertTrue(metrics.getSummary().contains("Heap: 64 MB"));
+        assertEquals(0, metrics.getCount(RenderMetrics.Timer.UPDATE_VIEW), "Cada muestra abre una ventana nueva");
+    }
+
+    @Test
+    void testCsvHasHeaderAndOneLinePerSample() throws IOException {
+        RenderMetrics metrics = new RenderMetrics();
+        metrics.record(RenderMetrics.Timer.PULSE_INTERVAL, 16_666_667);
+        metrics.sample(10, 4, 53, 1024);
+        metrics.sample(10, 4, 53, 1024);
+
+        StringWriter out = new StringWriter();
+        metrics.writeCsv(out);
+        String[] lines = out.toString().split("\n");
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("timestamp_ms,pulse_interval_count"));
+        assertEquals(lines[0].split(",").length, lines[1].split(",").length);
+        assertTrue(lines[1].contains(",1,16.667,16.667,"));
+    }
+}
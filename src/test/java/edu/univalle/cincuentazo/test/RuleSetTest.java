@@ -0,0 +1,73 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.exceptions.InvalidCardPlayException;
+import edu.univalle.cincuentazo.model.*;
+import edu.univalle.cincuentazo.model.strategy.KeepAcesStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleSetTest {
+
+    @Test
+    void testStandardRules() {
+        RuleSet rules = RuleSet.STANDARD;
+        assertEquals(50, rules.getLimit());
+        assertEquals(4, rules.getHandSize());
+        assertEquals(-10, rules.getCardValue(Card.valueOf("H12")));
+        assertEquals(1, rules.getAceLow());
+        assertEquals(10, rules.getAceHigh());
+        assertEquals(1, rules.getDecks());
+
+        Game game = new Game(2, 1L);
+        assertEquals(RuleSet.STANDARD.withSeats(3), game.getRules());
+    }
+
+    @Test
+    void testRulesAreValidatedAndNeverShared() {
+        RuleSet three = RuleSet.STANDARD.withSeats(3);
+        assertEquals(4, RuleSet.STANDARD.getSeats(), "Las variantes no modifican las reglas originales");
+        assertEquals(3, three.getSeats());
+        assertNotEquals(RuleSet.STANDARD, three);
+
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.STANDARD.withSeats(17));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.STANDARD.withSeats(13), "Una baraja no alcanza");
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.STANDARD.withLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.STANDARD.withHandSize(13));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.STANDARD.withAceValues(10, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Game(List.of(new MachinePlayer("A"), new MachinePlayer("B")),
+                        new SplittableRandom(1), three));
+    }
+
+    @Test
+    void testGameFollowsItsRules() throws InvalidCardPlayException {
+        RuleSet rules = RuleSet.STANDARD.withSeats(2).withLimit(30).withHandSize(6)
+                .withFaceValue(0).withAceValues(2, 11);
+        Game game = new Game(rules, new SplittableRandom(5));
+        IPlayer human = game.getPlayers().get(0);
+        assertEquals(6, human.getHandSet().size());
+        assertEquals(0, game.getCardValue(Card.valueOf("S13")));
+
+        Card ace = Card.valueOf("C01");
+        game.setHand(human, ace);
+        game.setTableSum(20);
+        assertThrows(IllegalArgumentException.class, () -> game.playCard(human, ace, 10));
+        assertFalse(game.isLegal(human, Move.ofAce(ace, true)));
+        assertTrue(game.isLegal(human, Move.ofAce(ace, false)));
+        assertEquals(Move.ofAce(ace, false), new KeepAcesStrategy().chooseMove(game, human, 0));
+
+        assertEquals(11, Move.ofAce(ace, true).getValue(rules));
+        assertEquals(2, Move.ofAce(ace, false).getValue(rules));
+        assertSame(Move.ofAce(ace, true), Move.of(ace, 11, rules));
+        assertThrows(IllegalArgumentException.class, () -> Move.of(ace, 10, rules));
+
+        game.setTableSum(19);
+        assertEquals(Move.ofAce(ace, true), new KeepAcesStrategy().chooseMove(game, human, 0));
+        game.playMove(human, Move.ofAce(ace, true));
+        assertEquals(30, game.getTableSum());
+    }
+}
@@ -0,0 +1,71 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.RuleSet;
+import edu.univalle.cincuentazo.replay.GameRecordWriter;
+import edu.univalle.cincuentazo.simulation.SimulationResult;
+import edu.univalle.cincuentazo.simulation.SimulationRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationRunnerTest {
+
+    @Test
+    void testEveryGameIsCounted() {
+        SimulationResult result = new SimulationRunner(3, 2).run(5000, 7L);
+
+        assertEquals(5000, result.getGames());
+        long wins = 0;
+        for (int seat = 0; seat < result.getSeats(); seat++) {
+            wins += result.getWins(seat);
+            long placed = 0;
+            for (int position = 0; position < result.getSeats(); position++) {
+                placed += result.getPlacementCount(seat, position);
+            }
+            assertEquals(5000, placed, "Cada puesto debe tener una posición por juego");
+        }
+        assertEquals(5000, wins + result.getGamesWithoutWinner());
+        assertTrue(result.getAverageTurns() > 0);
+    }
+
+    @Test
+    void testResultsDependOnlyOnSeed() {
+        SimulationResult single = new SimulationRunner(2, 1).run(3000, 99L);
+        SimulationResult parallel = new SimulationRunner(2, 4).run(3000, 99L);
+
+        for (int seat = 0; seat < single.getSeats(); seat++) {
+            assertEquals(single.getWins(seat), parallel.getWins(seat));
+        }
+        assertEquals(single.getAverageTurns(), parallel.getAverageTurns());
+        assertEquals(single.getAverageRecycles(), parallel.getAverageRecycles());
+    }
+
+    @Test
+    void testInvalidMachineCountThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationRunner(0));
+        // Trece asientos no caben en un solo mazo
+        assertThrows(IllegalArgumentException.class, () -> new SimulationRunner(12));
+    }
+
+    @Test
+    void testRunnerPlaysTheGivenRules(@TempDir Path dir) throws IOException {
+        RuleSet rules = RuleSet.STANDARD.withDecks(2).withSeats(6).withLimit(60);
+        SimulationResult result = new SimulationRunner(rules, 2).run(500, 11L);
+
+        assertEquals(500, result.getGames());
+        assertEquals(6, result.getSeats());
+        long wins = 0;
+        for (int seat = 0; seat < result.getSeats(); seat++) {
+            wins += result.getWins(seat);
+        }
+        assertEquals(500, wins + result.getGamesWithoutWinner());
+        try (GameRecordWriter writer = new GameRecordWriter(dir.resolve("juegos.rec"))) {
+            assertThrows(IllegalArgumentException.class, () -> new SimulationRunner(rules, 1).run(1, 1L, writer),
+                    "Solo se graban partidas con las reglas estándar");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package edu.univalle.cincuentazo.test;
+
+import edu.univalle.cincuentazo.model.*;
+import edu.univalle.cincuentazo.model.strategy.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyTest {
+
+    private Game game;
+    private MachinePlayer machine;
+
+    @BeforeEach
+    void setUp() {
+        machine = new MachinePlayer("Bot");
+        game = new Game(List.of(machine, new MachinePlayer("Rival")), new SplittableRandom(3));
+        game.setHand(machine, Card.C09, Card.D13, Card.H01, Card.S04);
+        game.setTableSum(38);
+    }
+
+    @Test
+    void testGreedyLowPlaysLowestValue() {
+        Move move = new GreedyLowStrategy().chooseMove(game, machine, Long.MAX_VALUE);
+        assertEquals(Card.D13, move.getCard());
+    }
+
+    @Test
+    void testGreedyHighPlaysAceAsTenWhenItFits() {
+        Move move = new GreedyHighStrategy().chooseMove(game, machine, Long.MAX_VALUE);
+        assertEquals(Card.H01, move.getCard());
+        assertEquals(10, move.getValue(game.getRules()));
+    }
+
+    @Test
+    void testKeepAcesAvoidsAces() {
+        game.setHand(machine, Card.C09, Card.H01, Card.S04);
+        Move move = new KeepAcesStrategy().chooseMove(game, machine, Long.MAX_VALUE);
+        assertEquals(Card.S04, move.getCard());
+
+        game.setTableSum(47);
+        move = new KeepAcesStrategy().chooseMove(game, machine, Long.MAX_VALUE);
+        assertEquals(Card.H01, move.getCard());
+        assertEquals(1, move.getValue(game.getRules()));
+    }
+
+    @Test
+    void testMinimizeOptionsReturnsLegalMove() {
+        Move move = new MinimizeOptionsStrategy().chooseMove(game, machine, Long.MAX_VALUE);
+        assertTrue(game.isLegal(machine, move));
+        // Llevar la suma a 48 deja a los rivales solo con ases y figuras
+        assertEquals(Card.H01, move.getCard());
+        assertEquals(10, move.getValue(game.getRules()));
+    }
+
+    @Test
+    void testIllegalStrategyMoveFallsBackToFirstPlayable() {
+        MachinePlayer cheater = new MachinePlayer("Tramposo", (g, p, deadline) -> Move.of(Card.C10));
+        cheater.addCard(Card.C09);
+        game.setTableSum(40);
+        assertEquals(Card.C09, cheater.chooseMove(game).getCard());
+    }
+
+    @Test
+    void testIsmctsChoosesLegalMoveWithinBudget() {
+        try (IsmctsStrategy ismcts = new IsmctsStrategy(2, 11L)) {
+            long start = System.nanoTime();
+            Move move = ismcts.chooseMove(game, machine, start + 50_000_000L);
+
+            assertNotNull(move);
+            assertTrue(game.isLegal(machine, move));
+            assertTrue(ismcts.getLastPlayouts() > 0, "Debe ejecutar simulaciones");
+            assertTrue(System.nanoTime() - start < 1_000_000_000L, "Debe respetar el tiempo límite");
+        }
+    }
+
+    @Test
+    void testIsmctsGameFinishes() {
+        try (IsmctsStrategy ismcts = new IsmctsStrategy(1, 5L)) {
+            List<IPlayer> players = List.of(new MachinePlayer("ISMCTS", ismcts, 2_000_000L),
+                    new MachinePlayer("Voraz", new GreedyHighStrategy()));
+            GameEngine engine = new GameEngine(new Game(players, new SplittableRandom(8)));
+            engine.playToEnd();
+            assertTrue(engine.isGameOver());
+        }
+    }
+
+    @Test
+    void testGamesWithEveryStrategyFinish() {
+        List<Strategy> strategies = List.of(new GreedyLowStrategy(), new GreedyHighStrategy(),
+                new KeepAcesStrategy(), new MinimizeOptionsStrategy());
+        for (int seed = 0; seed < 50; seed++) {
+            List<IPlayer> players = List.of(
+                    new MachinePlayer("A", strategies.get(0)), new MachinePlayer("B", strategies.get(1)),
+                    new MachinePlayer("C", strategies.get(2)), new MachinePlayer("D", strategies.get(3)));
+            GameEngine engine = new GameEngine(new Game(players, new SplittableRandom(seed)));
+            engine.playToEnd();
+            assertTrue(engine.isGameOver());
+        }
+    }
+}